@@ -0,0 +1,188 @@
+package io.katharsis.dispatcher;
+
+import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.response.BaseResponse;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Wraps a read-only controller so that identical requests handled at the same time share a single call to the
+ * wrapped controller and its response. Requests are identical if their {@link JsonPath} and {@link RequestParams} are
+ * equal. A response is shared only while it is being computed, so requests which come after it has been returned
+ * call the wrapped controller again.
+ * <p>
+ * Should be used only with controllers which don't modify resources, such as GET controllers.
+ * <p>
+ * A shared response is returned to every caller of the identical request, no matter who the caller is. If
+ * repositories return data depending on the caller, e.g. on a security context or a tenant bound to the calling
+ * thread, one caller could receive data selected for another one. For such repositories pass a key qualifier which
+ * returns the caller's scope, e.g. a principal or a tenant id, so that only requests of the same scope are coalesced.
+ */
+public class CoalescingController implements BaseController {
+
+    private final BaseController controller;
+    private final Supplier<?> keyQualifier;
+    private final ConcurrentMap<RequestKey, CompletableFuture<BaseResponse<?>>> inFlightRequests =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Creates a controller which coalesces identical requests of all callers.
+     *
+     * @param controller wrapped controller
+     */
+    public CoalescingController(BaseController controller) {
+        this(controller, () -> null);
+    }
+
+    /**
+     * @param controller   wrapped controller
+     * @param keyQualifier called on the thread handling a request, requests are coalesced only if it returns equal
+     *                     values for them, e.g. the same principal or tenant id
+     */
+    public CoalescingController(BaseController controller, Supplier<?> keyQualifier) {
+        this.controller = controller;
+        this.keyQualifier = keyQualifier;
+    }
+
+    /**
+     * @param controller a controller
+     * @return <i>true</i> if the controller declares that it handles only GET requests
+     */
+    public static boolean isReadOnly(BaseController controller) {
+        Set<ControllerKey> handledKeys = controller.getHandledKeys();
+        if (handledKeys == null || handledKeys.isEmpty()) {
+            return false;
+        }
+        for (ControllerKey key : handledKeys) {
+            if (key.getMethod() != HttpMethod.GET) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+        return controller.isAcceptable(jsonPath, requestType);
+    }
+
+    @Override
+    public Set<ControllerKey> getHandledKeys() {
+        return controller.getHandledKeys();
+    }
+
+    @Override
+    public BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody)
+        throws Exception {
+        if (requestBody != null) {
+            return controller.handle(jsonPath, requestParams, requestBody);
+        }
+        RequestKey key = new RequestKey(jsonPath, requestParams, keyQualifier.get());
+        CompletableFuture<BaseResponse<?>> response = new CompletableFuture<>();
+        CompletableFuture<BaseResponse<?>> inFlightResponse = inFlightRequests.putIfAbsent(key, response);
+        if (inFlightResponse != null) {
+            return await(inFlightResponse);
+        }
+        try {
+            BaseResponse<?> result = controller.handle(jsonPath, requestParams, null);
+            response.complete(result);
+            return result;
+        } catch (Throwable e) {
+            response.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, response);
+        }
+    }
+
+    @Override
+    public CompletionStage<BaseResponse<?>> handleAsync(JsonPath jsonPath, RequestParams requestParams,
+                                                        RequestBody requestBody, Executor executor) {
+        if (requestBody != null) {
+            return controller.handleAsync(jsonPath, requestParams, requestBody, executor);
+        }
+        RequestKey key = new RequestKey(jsonPath, requestParams, keyQualifier.get());
+        CompletableFuture<BaseResponse<?>> response = new CompletableFuture<>();
+        CompletableFuture<BaseResponse<?>> inFlightResponse = inFlightRequests.putIfAbsent(key, response);
+        if (inFlightResponse != null) {
+            return inFlightResponse;
+        }
+        CompletionStage<BaseResponse<?>> result;
+        try {
+            result = controller.handleAsync(jsonPath, requestParams, null, executor);
+        } catch (RuntimeException e) {
+            inFlightRequests.remove(key, response);
+            response.completeExceptionally(e);
+            throw e;
+        }
+        result.whenComplete((value, throwable) -> {
+            inFlightRequests.remove(key, response);
+            if (throwable != null) {
+                response.completeExceptionally(throwable);
+            } else {
+                response.complete(value);
+            }
+        });
+        return response;
+    }
+
+    private static BaseResponse<?> await(CompletableFuture<BaseResponse<?>> response) throws Exception {
+        try {
+            return response.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Identifies requests which select the same data for the same scope of callers.
+     */
+    private static final class RequestKey {
+        private final JsonPath jsonPath;
+        private final RequestParams requestParams;
+        private final Object qualifier;
+        private final int hashCode;
+
+        RequestKey(JsonPath jsonPath, RequestParams requestParams, Object qualifier) {
+            this.jsonPath = jsonPath;
+            this.requestParams = requestParams;
+            this.qualifier = qualifier;
+            this.hashCode = Objects.hash(jsonPath, requestParams, qualifier);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            RequestKey that = (RequestKey) o;
+            return hashCode == that.hashCode &&
+                Objects.equals(jsonPath, that.jsonPath) &&
+                Objects.equals(requestParams, that.requestParams) &&
+                Objects.equals(qualifier, that.qualifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.katharsis.dispatcher;
 
+import io.katharsis.dispatcher.controller.BaseController;
 import io.katharsis.dispatcher.registry.ControllerRegistry;
 import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
 import io.katharsis.errorhandling.mapper.JsonApiExceptionMapper;
@@ -7,8 +8,14 @@ import io.katharsis.queryParams.RequestParams;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.response.BaseResponse;
+import io.katharsis.utils.CompletionStages;
+import io.katharsis.utils.TaskGroup;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 /**
  * A class that can be used to integrate Katharsis with external frameworks like Jersey, Spring etc. See katharsis-rs
@@ -18,10 +25,58 @@ public class RequestDispatcher {
 
     private final ControllerRegistry controllerRegistry;
     private final ExceptionMapperRegistry exceptionMapperRegistry;
+    private final Executor executor;
+    private final int maxConcurrency;
 
+    /**
+     * Creates a dispatcher which handles requests on the calling thread. It has no executor, so it supports
+     * {@link #dispatchRequest} only: {@link #dispatchRequestAsync} throws {@link IllegalStateException}. Use a
+     * constructor which takes an executor to dispatch requests asynchronously.
+     *
+     * @param controllerRegistry      registry of controllers
+     * @param exceptionMapperRegistry registry of exception mappers
+     */
     public RequestDispatcher(ControllerRegistry controllerRegistry, ExceptionMapperRegistry exceptionMapperRegistry) {
         this.controllerRegistry = controllerRegistry;
         this.exceptionMapperRegistry = exceptionMapperRegistry;
+        this.executor = null;
+        this.maxConcurrency = 1;
+    }
+
+    /**
+     * @param controllerRegistry      registry of controllers
+     * @param exceptionMapperRegistry registry of exception mappers
+     * @param executor                executor used by {@link #dispatchRequestAsync} to resolve and call blocking
+     *                                repositories and to build responses. An executor which runs tasks on the calling
+     *                                thread makes {@link #dispatchRequestAsync} block the caller.
+     */
+    public RequestDispatcher(ControllerRegistry controllerRegistry, ExceptionMapperRegistry exceptionMapperRegistry,
+                             Executor executor) {
+        this(controllerRegistry, exceptionMapperRegistry, executor, 1);
+    }
+
+    /**
+     * Creates a dispatcher which runs independent reads of a request, such as fetches of meta and links information,
+     * concurrently on the executor. With an executor which starts a new thread for each task, blocking repositories
+     * are called in parallel without being rewritten. Writes, including saves of relationships, stay on the thread
+     * handling the request, so thread-bound transactions keep working.
+     *
+     * @param controllerRegistry      registry of controllers
+     * @param exceptionMapperRegistry registry of exception mappers
+     * @param executor                executor used to run requests and repository calls
+     * @param maxConcurrency          maximum number of repository calls of a single request run at the same time,
+     *                                <i>1</i> makes calls one by one
+     * @see TaskGroup
+     */
+    public RequestDispatcher(ControllerRegistry controllerRegistry, ExceptionMapperRegistry exceptionMapperRegistry,
+                             Executor executor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.controllerRegistry = controllerRegistry;
+        this.exceptionMapperRegistry = exceptionMapperRegistry;
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.maxConcurrency = maxConcurrency;
     }
 
     /**
@@ -37,9 +92,12 @@ public class RequestDispatcher {
                                            @SuppressWarnings("SameParameterValue") RequestBody requestBody) throws Exception {
 
         try {
-        return controllerRegistry
-                .getController(jsonPath, requestType)
-                .handle(jsonPath, requestParams, requestBody);
+            BaseController controller = controllerRegistry.getController(jsonPath, requestType);
+            if (maxConcurrency > 1) {
+                return new TaskGroup(executor, maxConcurrency)
+                    .call(() -> controller.handle(jsonPath, requestParams, requestBody));
+            }
+            return controller.handle(jsonPath, requestParams, requestBody);
         } catch (Exception e) {
             Optional<JsonApiExceptionMapper> exceptionMapper = exceptionMapperRegistry.findMapperFor(e.getClass());
             if (exceptionMapper.isPresent()) {
@@ -50,4 +108,60 @@ public class RequestDispatcher {
             }
         }
     }
+
+    /**
+     * Dispatch the request from a client without blocking the calling thread. Repositories which implement
+     * {@link io.katharsis.repository.AsyncResourceRepository} or
+     * {@link io.katharsis.repository.AsyncRelationshipRepository} are called directly, the rest of the work is done
+     * on the executor of the dispatcher, including resolution of the repositories. The dispatcher must have been
+     * created with an executor.
+     * @param jsonPath built {@link JsonPath} instance which represents the URI sent in the request
+     * @param requestType type of the request e.g. POST, GET, PATCH
+     * @param requestParams built object containing query parameters of the request
+     * @param requestBody deserialized body of the client request
+     * @return stage completed with the response form the Katharsis or with an exception which hasn't been mapped
+     * @throws IllegalStateException if the dispatcher has been created without an executor
+     */
+    public CompletionStage<BaseResponse<?>> dispatchRequestAsync(JsonPath jsonPath, String requestType,
+                                                                 RequestParams requestParams,
+                                                                 RequestBody requestBody) {
+        if (executor == null) {
+            throw new IllegalStateException("Asynchronous dispatch requires a RequestDispatcher created with an " +
+                "executor");
+        }
+        CompletionStage<BaseResponse<?>> response;
+        try {
+            Executor requestExecutor = executor;
+            if (maxConcurrency > 1) {
+                TaskGroup taskGroup = new TaskGroup(executor, maxConcurrency);
+                requestExecutor = command -> executor.execute(taskGroup.bind(command));
+            }
+            response = controllerRegistry
+                .getController(jsonPath, requestType)
+                .handleAsync(jsonPath, requestParams, requestBody, requestExecutor);
+        } catch (Exception e) {
+            response = CompletionStages.failed(e);
+        }
+
+        CompletableFuture<BaseResponse<?>> mappedResponse = new CompletableFuture<>();
+        response.whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                mappedResponse.complete(result);
+                return;
+            }
+            Throwable cause = CompletionStages.unwrap(throwable);
+            Optional<JsonApiExceptionMapper> exceptionMapper = exceptionMapperRegistry.findMapperFor(cause.getClass());
+            if (exceptionMapper.isPresent()) {
+                try {
+                    //noinspection unchecked
+                    mappedResponse.complete(exceptionMapper.get().toErrorResponse(cause));
+                } catch (RuntimeException e) {
+                    mappedResponse.completeExceptionally(e);
+                }
+            } else {
+                mappedResponse.completeExceptionally(cause);
+            }
+        });
+        return mappedResponse;
+    }
 }
@@ -10,6 +10,15 @@ import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.LinksInformation;
 import io.katharsis.response.MetaInformation;
+import io.katharsis.utils.CompletionStages;
+import io.katharsis.utils.TaskGroup;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 
 /**
  * Represents a controller contract. There can be many kinds of requests that can be send to the framework. The
@@ -28,6 +37,18 @@ public interface BaseController {
      */
     boolean isAcceptable(JsonPath jsonPath, String requestType);
 
+    /**
+     * Returns keys of requests handled by the controller. {@link io.katharsis.dispatcher.registry.ControllerRegistry}
+     * dispatches requests matching the keys to the controller without calling
+     * {@link #isAcceptable(JsonPath, String)}. If no keys are returned, which is the default,
+     * {@link #isAcceptable(JsonPath, String)} is called for every request.
+     *
+     * @return handled keys or <i>null</i> if they are not known
+     */
+    default Set<ControllerKey> getHandledKeys() {
+        return null;
+    }
+
     /**
      * Passes the request to controller method.
      *
@@ -39,6 +60,23 @@ public interface BaseController {
      */
     BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody) throws Exception;
 
+    /**
+     * Passes the request to controller method without blocking the calling thread. By default
+     * {@link #handle(JsonPath, RequestParams, RequestBody)} is called on the executor. Controllers can override it to
+     * use {@link io.katharsis.repository.AsyncResourceRepository} and
+     * {@link io.katharsis.repository.AsyncRelationshipRepository}.
+     *
+     * @param jsonPath      Requested resource path
+     * @param requestParams Params specifying request
+     * @param requestBody   Top-level JSON object from method's body of the request passed as {@link RequestBody}
+     * @param executor      executor used to call blocking repositories
+     * @return stage completed with the response
+     */
+    default CompletionStage<BaseResponse<?>> handleAsync(JsonPath jsonPath, RequestParams requestParams,
+                                                         RequestBody requestBody, Executor executor) {
+        return CompletionStages.call(() -> handle(jsonPath, requestParams, requestBody), executor);
+    }
+
     default MetaInformation getMetaInformation(Object repository, Iterable<?> resources, RequestParams requestParams) {
         if (repository instanceof MetaRepository) {
             return ((MetaRepository) repository).getMetaInformation(resources, requestParams);
@@ -52,6 +90,32 @@ public interface BaseController {
         return null;
     }
 
+    /**
+     * Gets meta and links information of the resources and passes them to a factory of a response. If the repository
+     * implements both {@link MetaRepository} and {@link LinksRepository}, the information is fetched concurrently
+     * within the {@link TaskGroup} of the request.
+     *
+     * @param repository      repository the resources come from
+     * @param resources       resources returned in the response
+     * @param requestParams   Params specifying request
+     * @param responseFactory factory of a response
+     * @param <R>             type of the response
+     * @return created response
+     */
+    default <R> R withMetaAndLinks(Object repository, Iterable<?> resources, RequestParams requestParams,
+                                   BiFunction<MetaInformation, LinksInformation, R> responseFactory) {
+        if (!(repository instanceof MetaRepository && repository instanceof LinksRepository)) {
+            return responseFactory.apply(getMetaInformation(repository, resources, requestParams),
+                getLinksInformation(repository, resources, requestParams));
+        }
+        AtomicReference<MetaInformation> metaInformation = new AtomicReference<>();
+        AtomicReference<LinksInformation> linksInformation = new AtomicReference<>();
+        TaskGroup.current().runAll(Arrays.asList(
+            () -> metaInformation.set(getMetaInformation(repository, resources, requestParams)),
+            () -> linksInformation.set(getLinksInformation(repository, resources, requestParams))));
+        return responseFactory.apply(metaInformation.get(), linksInformation.get());
+    }
+
     default void verifyTypes(HttpMethod methodType, String resourceEndpointName, RegistryEntry endpointRegistryEntry,
                                          RegistryEntry bodyRegistryEntry) {
         if (endpointRegistryEntry.equals(bodyRegistryEntry)) {
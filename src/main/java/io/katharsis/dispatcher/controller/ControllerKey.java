@@ -0,0 +1,112 @@
+package io.katharsis.dispatcher.controller;
+
+import io.katharsis.request.path.FieldPath;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.RelationshipsPath;
+import io.katharsis.request.path.ResourcePath;
+
+import java.util.Objects;
+
+/**
+ * Identifies a kind of requests handled by a controller: a kind of the requested path, whether the path concerns a
+ * collection and a HTTP method of the request.
+ *
+ * @see BaseController#getHandledKeys()
+ */
+public final class ControllerKey {
+
+    /**
+     * Kinds of the last element of a {@link JsonPath}.
+     */
+    public enum PathKind {
+        RESOURCE,
+        FIELD,
+        RELATIONSHIPS;
+
+        /**
+         * @param jsonPath requested path
+         * @return kind of the path or <i>null</i> if the path is of an unknown type
+         */
+        public static PathKind of(JsonPath jsonPath) {
+            if (jsonPath instanceof ResourcePath) {
+                return RESOURCE;
+            } else if (jsonPath instanceof FieldPath) {
+                return FIELD;
+            } else if (jsonPath instanceof RelationshipsPath) {
+                return RELATIONSHIPS;
+            }
+            return null;
+        }
+    }
+
+    private static final int METHOD_COUNT = HttpMethod.values().length;
+
+    /**
+     * Number of distinct keys.
+     */
+    public static final int COUNT = PathKind.values().length * 2 * METHOD_COUNT;
+
+    private final PathKind pathKind;
+    private final boolean collection;
+    private final HttpMethod method;
+
+    private ControllerKey(PathKind pathKind, boolean collection, HttpMethod method) {
+        this.pathKind = pathKind;
+        this.collection = collection;
+        this.method = method;
+    }
+
+    public static ControllerKey of(PathKind pathKind, boolean collection, HttpMethod method) {
+        return new ControllerKey(Objects.requireNonNull(pathKind), collection, Objects.requireNonNull(method));
+    }
+
+    /**
+     * Returns a number which identifies a key, in the range from 0 to {@link #COUNT} exclusive.
+     *
+     * @param pathKind   kind of the path
+     * @param collection <i>true</i> if the path concerns a collection
+     * @param method     HTTP method of the request
+     * @return index of the key
+     */
+    public static int indexOf(PathKind pathKind, boolean collection, HttpMethod method) {
+        return (pathKind.ordinal() * 2 + (collection ? 1 : 0)) * METHOD_COUNT + method.ordinal();
+    }
+
+    public int index() {
+        return indexOf(pathKind, collection, method);
+    }
+
+    public PathKind getPathKind() {
+        return pathKind;
+    }
+
+    public boolean isCollection() {
+        return collection;
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ControllerKey that = (ControllerKey) o;
+        return pathKind == that.pathKind && collection == that.collection && method == that.method;
+    }
+
+    @Override
+    public int hashCode() {
+        return index();
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + pathKind + (collection ? " collection" : "");
+    }
+}
@@ -1,5 +1,8 @@
 package io.katharsis.dispatcher.controller;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Due to no RESTful dependencies, katharsis doesn't have any place to store a list of available HTTP methods, so
  * when referring to HTTP methods, this enum should be used.
@@ -9,5 +12,24 @@ public enum HttpMethod {
     POST,
     DELETE,
     PUT,
-    PATCH
+    PATCH;
+
+    private static final Map<String, HttpMethod> METHODS = new HashMap<>();
+
+    static {
+        for (HttpMethod method : values()) {
+            METHODS.put(method.name(), method);
+        }
+    }
+
+    /**
+     * Returns a method of the provided name. Unlike {@link #valueOf(String)}, no exception is thrown for an unknown
+     * name.
+     *
+     * @param name name of a HTTP method, e.g. <i>GET</i>
+     * @return method or <i>null</i> if there's no such method
+     */
+    public static HttpMethod parse(String name) {
+        return name != null ? METHODS.get(name) : null;
+    }
 }
@@ -1,8 +1,11 @@
 package io.katharsis.dispatcher.controller.collection;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.ControllerKey.PathKind;
 import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.AsyncResourceRepository;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
@@ -12,13 +15,17 @@ import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.CollectionResponse;
-import io.katharsis.response.LinksInformation;
-import io.katharsis.response.MetaInformation;
+import io.katharsis.utils.CompletionStages;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class CollectionGet implements BaseController {
 
@@ -40,34 +47,73 @@ public class CollectionGet implements BaseController {
                 && HttpMethod.GET.name().equals(requestType);
     }
 
+    @Override
+    public Set<ControllerKey> getHandledKeys() {
+        return Collections.singleton(ControllerKey.of(PathKind.RESOURCE, true, HttpMethod.GET));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody) {
-        String resourceName = jsonPath.getElementName();
-        RegistryEntry registryEntry = resourceRegistry.getEntry(resourceName);
-        if (registryEntry == null) {
-            throw new ResourceNotFoundException(resourceName);
-        }
+        RegistryEntry registryEntry = getRegistryEntry(jsonPath);
         Iterable<?> resources;
         ResourceRepository resourceRepository = registryEntry.getResourceRepository();
         if (jsonPath.getIds() == null || jsonPath.getIds().getIds().isEmpty()) {
             resources = resourceRepository.findAll(requestParams);
         } else {
-            Class<? extends Serializable> idType = (Class<? extends Serializable>)registryEntry
-                    .getResourceInformation().getIdField().getType();
-            Iterable<? extends Serializable> parsedIds = typeParser.parse((Iterable<String>) jsonPath.getIds().getIds(),
-                    idType);
-            resources = resourceRepository.findAll(parsedIds, requestParams);
+            resources = resourceRepository.findAll(parseIds(jsonPath, registryEntry), requestParams);
+        }
+        return buildResponse(jsonPath, requestParams, resourceRepository, resources);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletionStage<BaseResponse<?>> handleAsync(JsonPath jsonPath, RequestParams requestParams,
+                                                        RequestBody requestBody, Executor executor) {
+        return CompletionStages.compose(() -> {
+            RegistryEntry registryEntry = getRegistryEntry(jsonPath);
+            ResourceRepository resourceRepository = registryEntry.getResourceRepository();
+            if (!(resourceRepository instanceof AsyncResourceRepository)) {
+                return CompletableFuture.completedFuture(handle(jsonPath, requestParams, requestBody));
+            }
+            AsyncResourceRepository asyncRepository = (AsyncResourceRepository) resourceRepository;
+            CompletionStage<Iterable<?>> resources;
+            if (jsonPath.getIds() == null || jsonPath.getIds().getIds().isEmpty()) {
+                resources = asyncRepository.findAllAsync(requestParams);
+            } else {
+                resources = asyncRepository.findAllAsync(parseIds(jsonPath, registryEntry), requestParams);
+            }
+            return resources.thenApplyAsync(
+                found -> buildResponse(jsonPath, requestParams, resourceRepository, found), executor);
+        }, executor);
+    }
+
+    private RegistryEntry getRegistryEntry(JsonPath jsonPath) {
+        String resourceName = jsonPath.getElementName();
+        RegistryEntry registryEntry = resourceRegistry.getEntry(resourceName);
+        if (registryEntry == null) {
+            throw new ResourceNotFoundException(resourceName);
         }
+        return registryEntry;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterable<? extends Serializable> parseIds(JsonPath jsonPath, RegistryEntry registryEntry) {
+        Class<? extends Serializable> idType = (Class<? extends Serializable>)registryEntry
+                .getResourceInformation().getIdField().getType();
+        return typeParser.parse((Iterable<String>) jsonPath.getIds().getIds(), idType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private BaseResponse<?> buildResponse(JsonPath jsonPath, RequestParams requestParams,
+                                          ResourceRepository resourceRepository, Iterable<?> resources) {
         List containers = new LinkedList();
         if (resources != null) {
             for (Object element : resources) {
                 containers.add(element);
             }
         }
-        MetaInformation metaInformation = getMetaInformation(resourceRepository, resources, requestParams);
-        LinksInformation linksInformation = getLinksInformation(resourceRepository, resources, requestParams);
-
-        return new CollectionResponse(containers, jsonPath, requestParams, metaInformation, linksInformation);
+        return withMetaAndLinks(resourceRepository, resources, requestParams, (metaInformation, linksInformation) ->
+            new CollectionResponse(containers, jsonPath, requestParams, metaInformation, linksInformation));
     }
 }
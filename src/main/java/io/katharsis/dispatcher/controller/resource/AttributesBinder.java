@@ -0,0 +1,168 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.katharsis.resource.exception.ResourceFieldNotFoundException;
+import io.katharsis.resource.information.ResourceAccessor;
+import io.katharsis.resource.information.ResourceInformation;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Assigns attributes of a request body to a resource. Each attribute value is decoded using an {@link ObjectReader}
+ * created for the declared, possibly generic, type of the attribute and assigned through {@link ResourceAccessor}, so
+ * no interim instance of the resource is created. Readers are created once for each resource class.
+ * <p>
+ * If Jackson customizes how the resource is read, e.g. an attribute has a custom deserializer or the class has a
+ * naming strategy, decoding an attribute alone could give a different result than decoding the whole resource. Such
+ * customizations are found by introspecting the resource with the {@link ObjectMapper}, so annotations of setters,
+ * mix-ins and annotation bundles are taken into account. For such resources the attributes are read into an interim
+ * instance of the resource class and copied from it.
+ */
+final class AttributesBinder {
+
+    private static final String JACKSON_PACKAGE_PREFIX = "com.fasterxml.jackson";
+
+    private final ObjectMapper objectMapper;
+    private final ResourceInformation resourceInformation;
+    private final ObjectReader[] attributeReaders;
+    private final boolean bindThroughInstance;
+
+    AttributesBinder(ObjectMapper objectMapper, ResourceInformation resourceInformation) {
+        this.objectMapper = objectMapper;
+        this.resourceInformation = resourceInformation;
+        this.bindThroughInstance = hasCustomizedAttributes(objectMapper, resourceInformation);
+        this.attributeReaders = new ObjectReader[resourceInformation.getAttributeCount()];
+        if (!bindThroughInstance) {
+            for (int i = 0; i < attributeReaders.length; i++) {
+                JavaType attributeType = objectMapper.getTypeFactory()
+                    .constructType(resourceInformation.getAttributeField(i).getGenericType());
+                attributeReaders[i] = objectMapper.reader(attributeType);
+            }
+        }
+    }
+
+    /**
+     * Checks the resource as seen by Jackson: each attribute must be a property of the same name whose members carry
+     * no Jackson annotations other than {@link JsonProperty}, and the class must carry no Jackson annotations at all.
+     */
+    private static boolean hasCustomizedAttributes(ObjectMapper objectMapper, ResourceInformation resourceInformation) {
+        BeanDescription description = objectMapper.getDeserializationConfig()
+            .introspect(objectMapper.constructType(resourceInformation.getResourceClass()));
+        if (hasCustomizations(description.getClassInfo())) {
+            return true;
+        }
+        Map<String, BeanPropertyDefinition> properties = new HashMap<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            properties.put(property.getName(), property);
+        }
+        for (int i = 0; i < resourceInformation.getAttributeCount(); i++) {
+            BeanPropertyDefinition property = properties.get(resourceInformation.getAttributeField(i).getName());
+            if (property == null
+                || hasCustomizations(property.getField())
+                || hasCustomizations(property.getSetter())
+                || hasCustomizations(property.getGetter())
+                || hasCustomizations(property.getConstructorParameter())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasCustomizations(Annotated annotated) {
+        if (annotated == null) {
+            return false;
+        }
+        for (Annotation annotation : annotated.annotations()) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (annotationType.isAnnotationPresent(JacksonAnnotationsInside.class)
+                || annotationType.getName().startsWith(JACKSON_PACKAGE_PREFIX)
+                && !annotationType.equals(JsonProperty.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Assigns values of the attributes to the resource.
+     *
+     * @param attributes attributes of a request body
+     * @param instance   resource to be modified
+     * @return <i>true</i> if a value of any attribute has changed
+     * @throws IOException if an attribute value cannot be decoded
+     */
+    boolean bind(JsonNode attributes, Object instance) throws IOException {
+        ResourceAccessor accessor = resourceInformation.getAccessor();
+        Object instanceWithNewFields = readInstance(attributes, instance.getClass());
+
+        boolean modified = false;
+        Iterator<Map.Entry<String, JsonNode>> fields = attributes.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            int attributeIndex = getAttributeIndex(field.getKey());
+            Object value = readValue(field.getValue(), attributeIndex, instanceWithNewFields);
+            if (!modified && !Objects.equals(accessor.getAttribute(instance, attributeIndex), value)) {
+                modified = true;
+            }
+            accessor.setAttribute(instance, attributeIndex, value);
+        }
+        return modified;
+    }
+
+    /**
+     * Decodes values of the attributes without assigning them to a resource.
+     *
+     * @param attributes attributes of a request body
+     * @return names of the attributes mapped to their decoded values
+     * @throws IOException if an attribute value cannot be decoded
+     */
+    Map<String, Object> decode(JsonNode attributes) throws IOException {
+        Object instanceWithNewFields = readInstance(attributes, resourceInformation.getResourceClass());
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = attributes.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            int attributeIndex = getAttributeIndex(field.getKey());
+            values.put(resourceInformation.getAttributeField(attributeIndex).getName(),
+                readValue(field.getValue(), attributeIndex, instanceWithNewFields));
+        }
+        return values;
+    }
+
+    private Object readInstance(JsonNode attributes, Class<?> resourceClass) throws IOException {
+        if (bindThroughInstance) {
+            return objectMapper.reader(resourceClass).readValue(attributes);
+        }
+        return null;
+    }
+
+    private int getAttributeIndex(String name) {
+        int attributeIndex = resourceInformation.findAttributeFieldIndex(name);
+        if (attributeIndex < 0) {
+            throw new ResourceFieldNotFoundException(name);
+        }
+        return attributeIndex;
+    }
+
+    private Object readValue(JsonNode value, int attributeIndex, Object instanceWithNewFields) throws IOException {
+        if (bindThroughInstance) {
+            return resourceInformation.getAccessor().getAttribute(instanceWithNewFields, attributeIndex);
+        }
+        return attributeReaders[attributeIndex].readValue(value);
+    }
+}
@@ -1,8 +1,11 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.ControllerKey.PathKind;
 import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.AsyncRelationshipRepository;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.FieldPath;
@@ -13,12 +16,16 @@ import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.*;
-import io.katharsis.utils.Generics;
+import io.katharsis.utils.CompletionStages;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class FieldResourceGet implements BaseController {
 
@@ -37,6 +44,11 @@ public class FieldResourceGet implements BaseController {
                 && HttpMethod.GET.name().equals(requestType);
     }
 
+    @Override
+    public Set<ControllerKey> getHandledKeys() {
+        return Collections.singleton(ControllerKey.of(PathKind.FIELD, false, HttpMethod.GET));
+    }
+
     @Override
     public BaseResponse handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody)
             throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
@@ -46,36 +58,78 @@ public class FieldResourceGet implements BaseController {
         RegistryEntry<?> registryEntry = resourceRegistry.getEntry(resourceName);
         Serializable castedResourceId = getResourceId(resourceIds, registryEntry);
         String elementName = jsonPath.getElementName();
-        ResourceField relationshipField = registryEntry.getResourceInformation().findRelationshipFieldByName(elementName);
-        if (relationshipField == null) {
-            throw new ResourceFieldNotFoundException(elementName);
-        }
+        ResourceField relationshipField = getRelationshipField(registryEntry, elementName);
 
-        Class<?> baseRelationshipFieldClass = relationshipField.getType();
-        Class<?> relationshipFieldClass = Generics.getResourceClass(relationshipField.getGenericType(), baseRelationshipFieldClass);
+        Class<?> relationshipFieldClass = relationshipField.getTargetClass();
 
         RelationshipRepository relationshipRepositoryForClass = registryEntry.getRelationshipRepositoryForClass(relationshipFieldClass);
         BaseResponse target;
-        if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
+        if (relationshipField.isCollection()) {
             @SuppressWarnings("unchecked")
             Iterable<?> targetObjects = relationshipRepositoryForClass
                 .findManyTargets(castedResourceId, elementName, requestParams);
-            MetaInformation metaInformation = getMetaInformation(relationshipRepositoryForClass, targetObjects, requestParams);
-            LinksInformation linksInformation = getLinksInformation(relationshipRepositoryForClass, targetObjects, requestParams);
-            target = new CollectionResponse(targetObjects, jsonPath, requestParams, metaInformation, linksInformation);
+            target = buildCollectionResponse(jsonPath, requestParams, relationshipRepositoryForClass, targetObjects);
         } else {
             @SuppressWarnings("unchecked")
             Object targetObject = relationshipRepositoryForClass.findOneTarget(castedResourceId, elementName, requestParams);
-            MetaInformation metaInformation =
-                getMetaInformation(relationshipRepositoryForClass, Collections.singletonList(targetObject), requestParams);
-            LinksInformation linksInformation =
-                getLinksInformation(relationshipRepositoryForClass, Collections.singletonList(targetObject), requestParams);
-            target = new ResourceResponse(targetObject, jsonPath, requestParams, metaInformation, linksInformation);
+            target = buildResourceResponse(jsonPath, requestParams, relationshipRepositoryForClass, targetObject);
         }
 
         return target;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletionStage<BaseResponse<?>> handleAsync(JsonPath jsonPath, RequestParams requestParams,
+                                                        RequestBody requestBody, Executor executor) {
+        return CompletionStages.compose(() -> {
+            RegistryEntry<?> registryEntry = resourceRegistry.getEntry(jsonPath.getResourceName());
+            String elementName = jsonPath.getElementName();
+            ResourceField relationshipField = getRelationshipField(registryEntry, elementName);
+            RelationshipRepository relationshipRepositoryForClass =
+                registryEntry.getRelationshipRepositoryForClass(relationshipField.getTargetClass());
+            if (!(relationshipRepositoryForClass instanceof AsyncRelationshipRepository)) {
+                return CompletableFuture.completedFuture(handle(jsonPath, requestParams, requestBody));
+            }
+            AsyncRelationshipRepository asyncRepository = (AsyncRelationshipRepository) relationshipRepositoryForClass;
+            Serializable castedResourceId = getResourceId(jsonPath.getIds(), registryEntry);
+            if (relationshipField.isCollection()) {
+                CompletionStage<Iterable<?>> targetObjects =
+                    asyncRepository.findManyTargetsAsync(castedResourceId, elementName, requestParams);
+                return targetObjects.thenApplyAsync(found ->
+                    buildCollectionResponse(jsonPath, requestParams, relationshipRepositoryForClass, found), executor);
+            } else {
+                CompletionStage<Object> targetObject =
+                    asyncRepository.findOneTargetAsync(castedResourceId, elementName, requestParams);
+                return targetObject.thenApplyAsync(found ->
+                    buildResourceResponse(jsonPath, requestParams, relationshipRepositoryForClass, found), executor);
+            }
+        }, executor);
+    }
+
+    private static ResourceField getRelationshipField(RegistryEntry<?> registryEntry, String elementName) {
+        ResourceField relationshipField = registryEntry.getResourceInformation().findRelationshipFieldByName(elementName);
+        if (relationshipField == null) {
+            throw new ResourceFieldNotFoundException(elementName);
+        }
+        return relationshipField;
+    }
+
+    private BaseResponse<?> buildCollectionResponse(JsonPath jsonPath, RequestParams requestParams,
+                                                    RelationshipRepository relationshipRepository,
+                                                    Iterable<?> targetObjects) {
+        return withMetaAndLinks(relationshipRepository, targetObjects, requestParams,
+            (metaInformation, linksInformation) ->
+                new CollectionResponse(targetObjects, jsonPath, requestParams, metaInformation, linksInformation));
+    }
+
+    private BaseResponse<?> buildResourceResponse(JsonPath jsonPath, RequestParams requestParams,
+                                                  RelationshipRepository relationshipRepository, Object targetObject) {
+        return withMetaAndLinks(relationshipRepository, Collections.singletonList(targetObject), requestParams,
+            (metaInformation, linksInformation) ->
+                new ResourceResponse(targetObject, jsonPath, requestParams, metaInformation, linksInformation));
+    }
+
     private Serializable getResourceId(PathIds resourceIds, RegistryEntry<?> registryEntry) {
         String resourceId = resourceIds.getIds().get(0);
         @SuppressWarnings("unchecked")
@@ -1,8 +1,11 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.ControllerKey.PathKind;
 import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.FullStateSaveRepository;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.DataBody;
@@ -17,17 +20,14 @@ import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
-import io.katharsis.response.LinksInformation;
-import io.katharsis.response.MetaInformation;
 import io.katharsis.response.ResourceResponse;
-import io.katharsis.utils.Generics;
-import io.katharsis.utils.PropertyUtils;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
+import java.util.Set;
 
 /**
  * Creates a new post in a similar manner as in {@link ResourcePost}, but additionally adds a relation to a field.
@@ -45,6 +45,11 @@ public class FieldResourcePost extends ResourceUpsert {
                 && HttpMethod.POST.name().equals(requestType);
     }
 
+    @Override
+    public Set<ControllerKey> getHandledKeys() {
+        return Collections.singleton(ControllerKey.of(PathKind.FIELD, false, HttpMethod.POST));
+    }
+
     @Override
     public ResourceResponse handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody)
         throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException,
@@ -71,10 +76,9 @@ public class FieldResourcePost extends ResourceUpsert {
         }
 
         Class<?> baseRelationshipFieldClass = relationshipField.getType();
-        Class<?> relationshipFieldClass = Generics
-            .getResourceClass(relationshipField.getGenericType(), baseRelationshipFieldClass);
+        Class<?> relationshipFieldClass = relationshipField.getTargetClass();
 
-        RegistryEntry relationshipRegistryEntry = resourceRegistry.getEntry(relationshipFieldClass);
+        RegistryEntry relationshipRegistryEntry = resourceRegistry.getEntry(relationshipField);
         String relationshipResourceType = resourceRegistry.getResourceType(baseRelationshipFieldClass);
 
         DataBody dataBody = requestBody.getSingleData();
@@ -84,28 +88,30 @@ public class FieldResourcePost extends ResourceUpsert {
         Object savedResource = resourceRepository.save(resource);
         saveRelations(savedResource, relationshipRegistryEntry, dataBody);
 
-        Serializable resourceId = (Serializable) PropertyUtils
-            .getProperty(savedResource, relationshipRegistryEntry.getResourceInformation().getIdField().getName());
+        Serializable resourceId = (Serializable) relationshipRegistryEntry.getResourceInformation().getAccessor()
+            .getId(savedResource);
 
-        @SuppressWarnings("unchecked")
-        Object savedResourceWithRelations = resourceRepository.findOne(resourceId, requestParams);
+        Object savedResourceWithRelations;
+        if (!hasRelationships(dataBody) && resourceRepository instanceof FullStateSaveRepository) {
+            savedResourceWithRelations = savedResource;
+        } else {
+            //noinspection unchecked
+            savedResourceWithRelations = resourceRepository.findOne(resourceId, requestParams);
+        }
 
         RelationshipRepository relationshipRepositoryForClass = endpointRegistryEntry.getRelationshipRepositoryForClass(relationshipFieldClass);
         @SuppressWarnings("unchecked")
         Object parent = endpointRegistryEntry.getResourceRepository().findOne(castedResourceId, requestParams);
-        if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
+        if (relationshipField.isCollection()) {
             //noinspection unchecked
             relationshipRepositoryForClass.addRelations(parent, Collections.singletonList(resourceId), jsonPath.getElementName());
         } else {
             //noinspection unchecked
             relationshipRepositoryForClass.setRelation(parent, resourceId, jsonPath.getElementName());
         }
-        MetaInformation metaInformation = getMetaInformation(resourceRepository,
-            Collections.singletonList(savedResourceWithRelations), requestParams);
-        LinksInformation linksInformation =
-            getLinksInformation(resourceRepository, Collections.singletonList(savedResourceWithRelations), requestParams);
-
-        return new ResourceResponse(savedResourceWithRelations, jsonPath, requestParams, metaInformation, linksInformation);
+        return withMetaAndLinks(resourceRepository, Collections.singletonList(savedResourceWithRelations),
+            requestParams, (metaInformation, linksInformation) -> new ResourceResponse(savedResourceWithRelations,
+                jsonPath, requestParams, metaInformation, linksInformation));
     }
 
     private Serializable getResourceId(PathIds resourceIds, RegistryEntry<?> registryEntry) {
@@ -1,8 +1,11 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.ControllerKey.PathKind;
 import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.AsyncRelationshipRepository;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
@@ -13,7 +16,7 @@ import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.*;
-import io.katharsis.utils.Generics;
+import io.katharsis.utils.CompletionStages;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
@@ -21,6 +24,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class RelationshipsResourceGet implements BaseController {
 
@@ -39,6 +46,11 @@ public class RelationshipsResourceGet implements BaseController {
             && HttpMethod.GET.name().equals(requestType);
     }
 
+    @Override
+    public Set<ControllerKey> getHandledKeys() {
+        return Collections.singleton(ControllerKey.of(PathKind.RELATIONSHIPS, false, HttpMethod.GET));
+    }
+
     @Override
     public BaseResponse handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody)
         throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
@@ -48,53 +60,97 @@ public class RelationshipsResourceGet implements BaseController {
 
         Serializable castedResourceId = getResourceId(resourceIds, registryEntry);
         String elementName = jsonPath.getElementName();
-        ResourceField relationshipField = registryEntry.getResourceInformation()
-            .findRelationshipFieldByName(elementName);
-        if (relationshipField == null) {
-            throw new ResourceFieldNotFoundException(elementName);
-        }
+        ResourceField relationshipField = getRelationshipField(registryEntry, elementName);
 
-        Class<?> baseRelationshipFieldClass = relationshipField.getType();
-        Class<?> relationshipFieldClass = Generics
-            .getResourceClass(relationshipField.getGenericType(), baseRelationshipFieldClass);
+        Class<?> relationshipFieldClass = relationshipField.getTargetClass();
 
         RelationshipRepository relationshipRepositoryForClass = registryEntry.getRelationshipRepositoryForClass(
             relationshipFieldClass);
-        RegistryEntry relationshipFieldEntry = resourceRegistry.getEntry(relationshipFieldClass);
         BaseResponse target;
-        if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
-            List<LinkageContainer> dataList = new LinkedList<>();
-
+        if (relationshipField.isCollection()) {
             @SuppressWarnings("unchecked")
             Iterable<?> targetObjects = relationshipRepositoryForClass
                 .findManyTargets(castedResourceId, elementName, requestParams);
-            MetaInformation metaInformation =
-                getMetaInformation(relationshipRepositoryForClass, targetObjects, requestParams);
-            LinksInformation linksInformation =
-                getLinksInformation(relationshipRepositoryForClass, targetObjects, requestParams);
-            if (targetObjects != null) {
-                for (Object targetObject : targetObjects) {
-                    dataList.add(new LinkageContainer(targetObject, relationshipFieldClass, relationshipFieldEntry));
-                }
-            }
-            target = new CollectionResponse(dataList, jsonPath, requestParams, metaInformation, linksInformation);
+            target = buildCollectionResponse(jsonPath, requestParams, relationshipField, relationshipRepositoryForClass,
+                targetObjects);
         } else {
             @SuppressWarnings("unchecked")
             Object targetObject = relationshipRepositoryForClass.findOneTarget(castedResourceId, elementName, requestParams);
-            MetaInformation metaInformation =
-                getMetaInformation(relationshipRepositoryForClass, Collections.singletonList(targetObject), requestParams);
-            LinksInformation linksInformation =
-                getLinksInformation(relationshipRepositoryForClass, Collections.singletonList(targetObject), requestParams);
-            if (targetObject != null) {
-                LinkageContainer linkageContainer = new LinkageContainer(targetObject, relationshipFieldClass, relationshipFieldEntry);
-
-                target = new ResourceResponse(linkageContainer, jsonPath, requestParams, metaInformation, linksInformation);
+            target = buildResourceResponse(jsonPath, requestParams, relationshipField, relationshipRepositoryForClass,
+                targetObject);
+        }
+
+        return target;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletionStage<BaseResponse<?>> handleAsync(JsonPath jsonPath, RequestParams requestParams,
+                                                        RequestBody requestBody, Executor executor) {
+        return CompletionStages.compose(() -> {
+            RegistryEntry<?> registryEntry = resourceRegistry.getEntry(jsonPath.getResourceName());
+            String elementName = jsonPath.getElementName();
+            ResourceField relationshipField = getRelationshipField(registryEntry, elementName);
+            RelationshipRepository relationshipRepositoryForClass =
+                registryEntry.getRelationshipRepositoryForClass(relationshipField.getTargetClass());
+            if (!(relationshipRepositoryForClass instanceof AsyncRelationshipRepository)) {
+                return CompletableFuture.completedFuture(handle(jsonPath, requestParams, requestBody));
+            }
+            AsyncRelationshipRepository asyncRepository = (AsyncRelationshipRepository) relationshipRepositoryForClass;
+            Serializable castedResourceId = getResourceId(jsonPath.getIds(), registryEntry);
+            if (relationshipField.isCollection()) {
+                CompletionStage<Iterable<?>> targetObjects =
+                    asyncRepository.findManyTargetsAsync(castedResourceId, elementName, requestParams);
+                return targetObjects.thenApplyAsync(found -> buildCollectionResponse(jsonPath, requestParams,
+                    relationshipField, relationshipRepositoryForClass, found), executor);
             } else {
-                target = new ResourceResponse(null, jsonPath, requestParams, metaInformation, linksInformation);
+                CompletionStage<Object> targetObject =
+                    asyncRepository.findOneTargetAsync(castedResourceId, elementName, requestParams);
+                return targetObject.thenApplyAsync(found -> buildResourceResponse(jsonPath, requestParams,
+                    relationshipField, relationshipRepositoryForClass, found), executor);
             }
+        }, executor);
+    }
+
+    private static ResourceField getRelationshipField(RegistryEntry<?> registryEntry, String elementName) {
+        ResourceField relationshipField = registryEntry.getResourceInformation()
+            .findRelationshipFieldByName(elementName);
+        if (relationshipField == null) {
+            throw new ResourceFieldNotFoundException(elementName);
         }
+        return relationshipField;
+    }
 
-        return target;
+    private BaseResponse<?> buildCollectionResponse(JsonPath jsonPath, RequestParams requestParams,
+                                                    ResourceField relationshipField,
+                                                    RelationshipRepository relationshipRepository,
+                                                    Iterable<?> targetObjects) {
+        RegistryEntry relationshipFieldEntry = resourceRegistry.getEntry(relationshipField);
+        List<LinkageContainer> dataList = new LinkedList<>();
+        if (targetObjects != null) {
+            for (Object targetObject : targetObjects) {
+                dataList.add(new LinkageContainer(targetObject, relationshipField.getTargetClass(),
+                    relationshipFieldEntry));
+            }
+        }
+        return withMetaAndLinks(relationshipRepository, targetObjects, requestParams,
+            (metaInformation, linksInformation) ->
+                new CollectionResponse(dataList, jsonPath, requestParams, metaInformation, linksInformation));
+    }
+
+    private BaseResponse<?> buildResourceResponse(JsonPath jsonPath, RequestParams requestParams,
+                                                  ResourceField relationshipField,
+                                                  RelationshipRepository relationshipRepository, Object targetObject) {
+        LinkageContainer linkageContainer = null;
+        if (targetObject != null) {
+            RegistryEntry relationshipFieldEntry = resourceRegistry.getEntry(relationshipField);
+            linkageContainer = new LinkageContainer(targetObject, relationshipField.getTargetClass(),
+                relationshipFieldEntry);
+        }
+        LinkageContainer data = linkageContainer;
+        return withMetaAndLinks(relationshipRepository, Collections.singletonList(targetObject), requestParams,
+            (metaInformation, linksInformation) ->
+                new ResourceResponse(data, jsonPath, requestParams, metaInformation, linksInformation));
     }
 
     private Serializable getResourceId(PathIds resourceIds, RegistryEntry<?> registryEntry) {
@@ -1,6 +1,8 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.ControllerKey.PathKind;
 import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.queryParams.RequestParams;
 import io.katharsis.repository.RelationshipRepository;
@@ -20,11 +22,11 @@ import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.MetaInformation;
 import io.katharsis.response.ResourceResponse;
-import io.katharsis.utils.Generics;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.Set;
 
 public abstract class RelationshipsResourceUpsert implements BaseController {
 
@@ -74,6 +76,11 @@ public abstract class RelationshipsResourceUpsert implements BaseController {
                 && method().name().equals(requestType);
     }
 
+    @Override
+    public final Set<ControllerKey> getHandledKeys() {
+        return Collections.singleton(ControllerKey.of(PathKind.RELATIONSHIPS, false, method()));
+    }
+
     @Override
     public final BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody) throws Exception {
         String resourceName = jsonPath.getResourceName();
@@ -97,14 +104,12 @@ public abstract class RelationshipsResourceUpsert implements BaseController {
         @SuppressWarnings("unchecked")
         Object resource = resourceRepository.findOne(castedResourceId, requestParams);
 
-        Class<?> baseRelationshipFieldClass = relationshipField.getType();
-        Class<?> relationshipFieldClass = Generics
-            .getResourceClass(relationshipField.getGenericType(), baseRelationshipFieldClass);
+        Class<?> relationshipFieldClass = relationshipField.getTargetClass();
         @SuppressWarnings("unchecked") Class<? extends Serializable> relationshipIdType = (Class<? extends Serializable>) resourceRegistry
-                .getEntry(relationshipFieldClass).getResourceInformation().getIdField().getType();
+                .getEntry(relationshipField).getResourceInformation().getIdField().getType();
 
         RelationshipRepository relationshipRepositoryForClass = registryEntry.getRelationshipRepositoryForClass(relationshipFieldClass);
-        if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
+        if (relationshipField.isCollection()) {
             if (!requestBody.isMultiple()) {
                 throw new RequestBodyException(HttpMethod.POST, resourceName, "Non-multiple data in body");
             }
@@ -1,8 +1,11 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.ControllerKey.PathKind;
 import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.AsyncResourceRepository;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
@@ -12,14 +15,17 @@ import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.BaseResponse;
-import io.katharsis.response.LinksInformation;
-import io.katharsis.response.MetaInformation;
 import io.katharsis.response.ResourceResponse;
+import io.katharsis.utils.CompletionStages;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class ResourceGet implements BaseController {
 
@@ -43,6 +49,11 @@ public class ResourceGet implements BaseController {
                 && HttpMethod.GET.name().equals(requestType);
     }
 
+    @Override
+    public Set<ControllerKey> getHandledKeys() {
+        return Collections.singleton(ControllerKey.of(PathKind.RESOURCE, false, HttpMethod.GET));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -51,27 +62,57 @@ public class ResourceGet implements BaseController {
     @Override
     public BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody)
             throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        RegistryEntry registryEntry = getRegistryEntry(jsonPath);
+        Serializable castedId = parseId(jsonPath, registryEntry);
+        ResourceRepository resourceRepository = registryEntry.getResourceRepository();
+        @SuppressWarnings("unchecked")
+        Object entity = resourceRepository.findOne(castedId, requestParams);
+
+        return buildResponse(jsonPath, requestParams, resourceRepository, entity);
+    }
+
+    @Override
+    public CompletionStage<BaseResponse<?>> handleAsync(JsonPath jsonPath, RequestParams requestParams,
+                                                        RequestBody requestBody, Executor executor) {
+        return CompletionStages.compose(() -> {
+            RegistryEntry registryEntry = getRegistryEntry(jsonPath);
+            ResourceRepository resourceRepository = registryEntry.getResourceRepository();
+            if (!(resourceRepository instanceof AsyncResourceRepository)) {
+                return CompletableFuture.completedFuture(handle(jsonPath, requestParams, requestBody));
+            }
+            Serializable castedId = parseId(jsonPath, registryEntry);
+            @SuppressWarnings("unchecked")
+            CompletionStage<Object> entity = ((AsyncResourceRepository) resourceRepository)
+                .findOneAsync(castedId, requestParams);
+            return entity.thenApplyAsync(
+                found -> buildResponse(jsonPath, requestParams, resourceRepository, found), executor);
+        }, executor);
+    }
+
+    private RegistryEntry getRegistryEntry(JsonPath jsonPath) {
         String resourceName = jsonPath.getElementName();
-        PathIds resourceIds = jsonPath.getIds();
         RegistryEntry registryEntry = resourceRegistry.getEntry(resourceName);
         if (registryEntry == null) {
             throw new ResourceNotFoundException(resourceName);
         }
+        return registryEntry;
+    }
+
+    private Serializable parseId(JsonPath jsonPath, RegistryEntry registryEntry) {
+        PathIds resourceIds = jsonPath.getIds();
         String id = resourceIds.getIds().get(0);
 
         @SuppressWarnings("unchecked") Class<? extends Serializable> idClass = (Class<? extends Serializable>) registryEntry
                 .getResourceInformation()
                 .getIdField()
                 .getType();
-        Serializable castedId = typeParser.parse(id, idClass);
-        ResourceRepository resourceRepository = registryEntry.getResourceRepository();
-        @SuppressWarnings("unchecked")
-        Object entity = resourceRepository.findOne(castedId, requestParams);
-        MetaInformation metaInformation =
-            getMetaInformation(resourceRepository, Collections.singletonList(entity), requestParams);
-        LinksInformation linksInformation =
-            getLinksInformation(resourceRepository, Collections.singletonList(entity), requestParams);
+        return typeParser.parse(id, idClass);
+    }
 
-        return new ResourceResponse(entity, jsonPath, requestParams, metaInformation, linksInformation);
+    private BaseResponse<?> buildResponse(JsonPath jsonPath, RequestParams requestParams,
+                                          ResourceRepository resourceRepository, Object entity) {
+        return withMetaAndLinks(resourceRepository, Collections.singletonList(entity), requestParams,
+            (metaInformation, linksInformation) ->
+                new ResourceResponse(entity, jsonPath, requestParams, metaInformation, linksInformation));
     }
 }
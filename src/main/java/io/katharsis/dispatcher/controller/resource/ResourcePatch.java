@@ -1,8 +1,12 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.ControllerKey.PathKind;
 import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.FullStateSaveRepository;
+import io.katharsis.repository.PartialUpdateRepository;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.RequestBody;
@@ -11,16 +15,17 @@ import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.exception.RequestBodyException;
 import io.katharsis.resource.exception.RequestBodyNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.BaseResponse;
-import io.katharsis.response.LinksInformation;
-import io.katharsis.response.MetaInformation;
 import io.katharsis.response.ResourceResponse;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 
 public class ResourcePatch extends ResourceUpsert {
 
@@ -35,6 +40,11 @@ public class ResourcePatch extends ResourceUpsert {
                 HttpMethod.PATCH.name().equals(requestType);
     }
 
+    @Override
+    public Set<ControllerKey> getHandledKeys() {
+        return Collections.singleton(ControllerKey.of(PathKind.RESOURCE, false, HttpMethod.PATCH));
+    }
+
     @Override
     public BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody) throws Exception {
         String resourceName = jsonPath.getResourceName();
@@ -49,7 +59,6 @@ public class ResourcePatch extends ResourceUpsert {
             throw new RequestBodyException(HttpMethod.POST, resourceName, "Multiple data in body");
         }
 
-
         String idString = jsonPath.getIds().getIds().get(0);
 
         @SuppressWarnings("unchecked") Class<? extends Serializable> idClass = (Class<? extends Serializable>) registryEntry
@@ -59,21 +68,65 @@ public class ResourcePatch extends ResourceUpsert {
         Serializable resourceId = typeParser.parse(idString, idClass);
 
         ResourceRepository resourceRepository = registryEntry.getResourceRepository();
+        DataBody dataBody = requestBody.getSingleData();
+
+        Object savedResourceWithRelations;
+        if (resourceRepository instanceof PartialUpdateRepository) {
+            savedResourceWithRelations = updatePartially(resourceRepository, resourceId, registryEntry, dataBody,
+                requestParams);
+        } else {
+            savedResourceWithRelations = update(resourceRepository, resourceId, registryEntry, dataBody,
+                requestParams);
+        }
+
+        return withMetaAndLinks(resourceRepository, Collections.singletonList(savedResourceWithRelations),
+            requestParams, (metaInformation, linksInformation) -> new ResourceResponse(savedResourceWithRelations,
+                jsonPath, requestParams, metaInformation, linksInformation));
+    }
+
+    /**
+     * Applies the changes to a fetched resource and saves it. If no attribute has changed and there are no
+     * relationships in the body, the resource is neither saved nor fetched again. If only attributes have changed and
+     * the repository is a {@link FullStateSaveRepository}, the saved resource is returned without fetching it again.
+     */
+    private Object update(ResourceRepository resourceRepository, Serializable resourceId, RegistryEntry registryEntry,
+                          DataBody dataBody, RequestParams requestParams) throws Exception {
         @SuppressWarnings("unchecked")
         Object resource = resourceRepository.findOne(resourceId, requestParams);
-        DataBody dataBody = requestBody.getSingleData();
 
-        setAttributes(dataBody, resource, registryEntry.getResourceInformation());
-        Object savedResource = resourceRepository.save(resource);
-        saveRelations(savedResource, registryEntry, dataBody);
+        boolean modified = setAttributes(dataBody, resource, registryEntry.getResourceInformation());
+        boolean hasRelationships = hasRelationships(dataBody);
+        if (!modified && !hasRelationships) {
+            return resource;
+        }
 
         @SuppressWarnings("unchecked")
-        Object savedResourceWithRelations = resourceRepository.findOne(resourceId, requestParams);
-        MetaInformation metaInformation =
-            getMetaInformation(resourceRepository, Collections.singletonList(savedResourceWithRelations), requestParams);
-        LinksInformation linksInformation =
-            getLinksInformation(resourceRepository, Collections.singletonList(savedResourceWithRelations), requestParams);
+        Object savedResource = modified ? resourceRepository.save(resource) : resource;
+        if (!hasRelationships && resourceRepository instanceof FullStateSaveRepository) {
+            return savedResource;
+        }
+        saveRelations(savedResource, registryEntry, dataBody);
+
+        //noinspection unchecked
+        return resourceRepository.findOne(resourceId, requestParams);
+    }
 
-        return new ResourceResponse(savedResourceWithRelations, jsonPath, requestParams, metaInformation, linksInformation);
+    /**
+     * Passes the attributes and relationships present in the request to {@link PartialUpdateRepository}, so the
+     * resource is updated in a single call without being fetched beforehand.
+     */
+    private Object updatePartially(ResourceRepository resourceRepository, Serializable resourceId,
+                                   RegistryEntry registryEntry, DataBody dataBody, RequestParams requestParams)
+        throws Exception {
+        ResourceInformation resourceInformation = registryEntry.getResourceInformation();
+        Map<String, Object> attributes = getAttributes(dataBody, resourceInformation);
+        Map<String, Object> relationships = getRelationshipIds(dataBody, resourceInformation);
+        if (attributes.isEmpty() && relationships.isEmpty()) {
+            //noinspection unchecked
+            return resourceRepository.findOne(resourceId, requestParams);
+        }
+        //noinspection unchecked
+        return ((PartialUpdateRepository) resourceRepository).update(resourceId, attributes, relationships,
+            requestParams);
     }
 }
@@ -1,8 +1,12 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.ControllerKey.PathKind;
 import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.FullStateSaveRepository;
+import io.katharsis.repository.RelationshipReferencesRepository;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.LinkageData;
@@ -11,24 +15,32 @@ import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.exception.RequestBodyException;
 import io.katharsis.resource.exception.RequestBodyNotFoundException;
+import io.katharsis.resource.exception.ResourceException;
+import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
-import io.katharsis.response.LinksInformation;
-import io.katharsis.response.MetaInformation;
 import io.katharsis.response.ResourceResponse;
-import io.katharsis.utils.Generics;
-import io.katharsis.utils.PropertyUtils;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 public class ResourcePost extends ResourceUpsert {
 
@@ -48,6 +60,11 @@ public class ResourcePost extends ResourceUpsert {
                 HttpMethod.POST.name().equals(requestType);
     }
 
+    @Override
+    public Set<ControllerKey> getHandledKeys() {
+        return Collections.singleton(ControllerKey.of(PathKind.RESOURCE, true, HttpMethod.POST));
+    }
+
     @Override
     public ResourceResponse handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody)
         throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException,
@@ -74,33 +91,43 @@ public class ResourcePost extends ResourceUpsert {
 
         setAttributes(dataBody, newResource, bodyRegistryEntry.getResourceInformation());
         ResourceRepository resourceRepository = endpointRegistryEntry.getResourceRepository();
-        setRelations(newResource, bodyRegistryEntry, dataBody, requestParams);
+        boolean useReferences = resourceRepository instanceof RelationshipReferencesRepository;
+        setRelations(newResource, bodyRegistryEntry, dataBody, requestParams, useReferences);
         Object savedResource = resourceRepository.save(newResource);
 
-        Serializable resourceId = (Serializable) PropertyUtils
-            .getProperty(savedResource, bodyRegistryEntry.getResourceInformation().getIdField().getName());
-
-        @SuppressWarnings("unchecked")
-        Object savedResourceWithRelations = resourceRepository.findOne(resourceId, requestParams);
-        MetaInformation metaInformation =
-            getMetaInformation(resourceRepository, Collections.singletonList(savedResourceWithRelations), requestParams);
-        LinksInformation linksInformation =
-            getLinksInformation(resourceRepository, Collections.singletonList(savedResourceWithRelations), requestParams);
-
-        return new ResourceResponse(savedResourceWithRelations, jsonPath, requestParams, metaInformation, linksInformation);
+        Object savedResourceWithRelations;
+        if (resourceRepository instanceof FullStateSaveRepository) {
+            savedResourceWithRelations = savedResource;
+        } else {
+            Serializable resourceId = (Serializable) bodyRegistryEntry.getResourceInformation().getAccessor()
+                .getId(savedResource);
+            //noinspection unchecked
+            savedResourceWithRelations = resourceRepository.findOne(resourceId, requestParams);
+        }
+        return withMetaAndLinks(resourceRepository, Collections.singletonList(savedResourceWithRelations),
+            requestParams, (metaInformation, linksInformation) -> new ResourceResponse(savedResourceWithRelations,
+                jsonPath, requestParams, metaInformation, linksInformation));
     }
 
-    void setRelations(Object newResource, RegistryEntry registryEntry, DataBody dataBody, RequestParams requestParams)
+    /**
+     * Assigns relationships of a request body to a new resource. If the repository which saves the new resource is a
+     * {@link RelationshipReferencesRepository}, references with only the id set are assigned instead of resources
+     * fetched from the repositories of the related resources.
+     *
+     * @param useReferences <i>true</i> if the resource is saved by a {@link RelationshipReferencesRepository}
+     */
+    void setRelations(Object newResource, RegistryEntry registryEntry, DataBody dataBody, RequestParams requestParams,
+                      boolean useReferences)
         throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         if (dataBody.getRelationships() != null) {
             Map<String, Object> additionalProperties = dataBody.getRelationships().getAdditionalProperties();
             for (Map.Entry<String, Object> property : additionalProperties.entrySet()) {
                 if (Iterable.class.isAssignableFrom(property.getValue().getClass())) {
                     //noinspection unchecked
-                    setRelationsField(newResource, registryEntry, (Map.Entry) property, requestParams);
+                    setRelationsField(newResource, registryEntry, (Map.Entry) property, requestParams, useReferences);
                 } else {
                     //noinspection unchecked
-                    setRelationField(newResource, registryEntry, (Map.Entry) property, requestParams);
+                    setRelationField(newResource, registryEntry, (Map.Entry) property, requestParams, useReferences);
                 }
 
             }
@@ -108,31 +135,118 @@ public class ResourcePost extends ResourceUpsert {
     }
 
     private void setRelationsField(Object newResource, RegistryEntry registryEntry,
-                                   Map.Entry<String, Iterable<LinkageData>> property, RequestParams requestParams) {
+                                   Map.Entry<String, Iterable<LinkageData>> property, RequestParams requestParams,
+                                   boolean useReferences) {
         String propertyName = property.getKey();
-        ResourceField relationshipField = registryEntry.getResourceInformation().findRelationshipFieldByName(propertyName);
-        Class<?> relationshipFieldClass = Generics.getResourceClass(relationshipField.getGenericType(), relationshipField.getType());
-        RegistryEntry entry = resourceRegistry.getEntry(relationshipFieldClass);
-        Class idFieldType = entry.getResourceInformation().getIdField().getType();
+        ResourceInformation resourceInformation = registryEntry.getResourceInformation();
+        int relationshipIndex = findRelationshipFieldIndex(resourceInformation, propertyName);
+        ResourceField relationshipField = resourceInformation.getRelationshipField(relationshipIndex);
+        RegistryEntry entry = resourceRegistry.getEntry(relationshipField);
+        ResourceInformation relationshipInformation = entry.getResourceInformation();
+        Class idFieldType = relationshipInformation.getIdField().getType();
 
         List<Serializable> relationshipIds = new LinkedList<>();
         for (LinkageData linkageData : property.getValue()) {
             Serializable castedRelationshipId = typeParser.parse(linkageData.getId(), idFieldType);
             relationshipIds.add(castedRelationshipId);
         }
-        Iterable relationObjects = entry.getResourceRepository().findAll(relationshipIds, requestParams);
-        PropertyUtils.setProperty(newResource, propertyName, relationObjects);
+        Iterable relationObjects;
+        if (useReferences) {
+            Collection<Object> references = newReferences(relationshipField);
+            for (Serializable relationshipId : relationshipIds) {
+                addReference(references, newReference(relationshipInformation, relationshipId), relationshipField);
+            }
+            relationObjects = references;
+        } else {
+            relationObjects = entry.getResourceRepository().findAll(relationshipIds, requestParams);
+        }
+        resourceInformation.getAccessor().setRelationship(newResource, relationshipIndex, relationObjects);
     }
 
     private void setRelationField(Object newResource, RegistryEntry registryEntry,
-                                  Map.Entry<String, LinkageData> property, RequestParams requestParams) {
+                                  Map.Entry<String, LinkageData> property, RequestParams requestParams,
+                                  boolean useReferences) {
         String propertyName = property.getKey();
-        ResourceField relationshipFieldByName = registryEntry.getResourceInformation().findRelationshipFieldByName(propertyName);
-        RegistryEntry entry = resourceRegistry.getEntry(relationshipFieldByName.getType());
-        Class idFieldType = entry.getResourceInformation().getIdField().getType();
+        ResourceInformation resourceInformation = registryEntry.getResourceInformation();
+        int relationshipIndex = findRelationshipFieldIndex(resourceInformation, propertyName);
+        ResourceField relationshipFieldByName = resourceInformation.getRelationshipField(relationshipIndex);
+        RegistryEntry entry = resourceRegistry.getEntry(relationshipFieldByName);
+        ResourceInformation relationshipInformation = entry.getResourceInformation();
+        Class idFieldType = relationshipInformation.getIdField().getType();
         Serializable castedRelationshipId = typeParser.parse(property.getValue().getId(), idFieldType);
 
-        Object relationObject = entry.getResourceRepository().findOne(castedRelationshipId, requestParams);
-        PropertyUtils.setProperty(newResource, propertyName, relationObject);
+        Object relationObject;
+        if (useReferences) {
+            relationObject = newReference(relationshipInformation, castedRelationshipId);
+        } else {
+            relationObject = entry.getResourceRepository().findOne(castedRelationshipId, requestParams);
+        }
+        resourceInformation.getAccessor().setRelationship(newResource, relationshipIndex, relationObject);
+    }
+
+    private static int findRelationshipFieldIndex(ResourceInformation resourceInformation, String name) {
+        int relationshipIndex = resourceInformation.findRelationshipFieldIndex(name);
+        if (relationshipIndex < 0) {
+            throw new ResourceFieldNotFoundException(name);
+        }
+        return relationshipIndex;
+    }
+
+    private static Object newReference(ResourceInformation resourceInformation, Serializable id) {
+        Object reference = newInstance(resourceInformation.getResourceClass(), "a reference to a resource");
+        resourceInformation.getAccessor().setId(reference, id);
+        return reference;
+    }
+
+    /**
+     * Creates an empty collection of the declared type of a to-many relationship. A concrete type is instantiated,
+     * an interface or an abstract type is mapped to a standard implementation, the same way Jackson does it.
+     * <p>
+     * A {@link SortedSet} compares the references, which have only the id set, so the natural ordering of the related
+     * resource must depend on the id only. Otherwise references can be rejected or collapsed into one.
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> newReferences(ResourceField relationshipField) {
+        Class<?> type = relationshipField.getType();
+        if (Collection.class.isAssignableFrom(type) && !type.isInterface()
+            && !Modifier.isAbstract(type.getModifiers())) {
+            return (Collection<Object>) newInstance(type, "references of relationship " + relationshipField.getName());
+        } else if (type.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>();
+        } else if (SortedSet.class.isAssignableFrom(type) && type.isAssignableFrom(TreeSet.class)) {
+            return new TreeSet<>();
+        } else if (type.isAssignableFrom(LinkedHashSet.class)) {
+            return new LinkedHashSet<>();
+        } else if (type.isAssignableFrom(ArrayDeque.class)) {
+            return new ArrayDeque<>();
+        }
+        throw new ResourceException(String.format("Cannot create references of relationship %s of type %s",
+            relationshipField.getName(), type.getName()));
+    }
+
+    private static void addReference(Collection<Object> references, Object reference, ResourceField relationshipField) {
+        try {
+            references.add(reference);
+        } catch (ClassCastException e) {
+            throw new ResourceException(String.format("Cannot add a reference to sorted relationship %s: %s is not " +
+                "comparable", relationshipField.getName(), reference.getClass().getName()));
+        }
+    }
+
+    private static <T> T newInstance(Class<T> type, String description) {
+        Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new ResourceException(String.format("Cannot create %s: %s has no no-arg constructor", description,
+                type.getName()));
+        }
+        try {
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new ResourceException(String.format("Cannot create %s of type %s: %s", description, type.getName(),
+                e));
+        }
     }
 }
@@ -1,29 +1,31 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
 import io.katharsis.dispatcher.controller.BaseController;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.LinkageData;
 import io.katharsis.resource.exception.ResourceException;
+import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
-import io.katharsis.utils.PropertyUtils;
+import io.katharsis.utils.TaskGroup;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class ResourceUpsert implements BaseController {
     final ResourceRegistry resourceRegistry;
     final TypeParser typeParser;
     private final ObjectMapper objectMapper;
+    private final Map<Class<?>, AttributesBinder> attributesBinders = new ConcurrentHashMap<>();
 
     public ResourceUpsert(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper) {
         this.resourceRegistry = resourceRegistry;
@@ -31,22 +33,76 @@ public abstract class ResourceUpsert implements BaseController {
         this.objectMapper = objectMapper;
     }
 
-    void setAttributes(DataBody dataBody, Object instance, ResourceInformation resourceInformation)
+    /**
+     * Assigns attributes of a request body to a resource.
+     *
+     * @return <i>true</i> if a value of any attribute has changed
+     */
+    boolean setAttributes(DataBody dataBody, Object instance, ResourceInformation resourceInformation)
         throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException,
         IOException {
         if (dataBody.getAttributes() != null) {
-            ObjectReader reader = objectMapper.reader(instance.getClass());
-            Object instanceWithNewFields = reader.readValue(dataBody.getAttributes());
-            Iterator<String> propertyNameIterator = dataBody.getAttributes().fieldNames();
-            while (propertyNameIterator.hasNext()) {
-                String propertyName = propertyNameIterator.next();
-                ResourceField attributeField = resourceInformation.findAttributeFieldByName(propertyName);
-                Object property = PropertyUtils.getProperty(instanceWithNewFields, attributeField.getName());
-                PropertyUtils.setProperty(instance, attributeField.getName(), property);
+            return getAttributesBinder(resourceInformation).bind(dataBody.getAttributes(), instance);
+        }
+        return false;
+    }
+
+    /**
+     * Decodes attributes of a request body without assigning them to a resource.
+     *
+     * @return names of the attributes mapped to their values
+     */
+    Map<String, Object> getAttributes(DataBody dataBody, ResourceInformation resourceInformation) throws IOException {
+        if (dataBody.getAttributes() != null) {
+            return getAttributesBinder(resourceInformation).decode(dataBody.getAttributes());
+        }
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Parses identifiers of related resources sent in relationships of a request body.
+     *
+     * @return names of the relationships mapped to a single identifier, an {@link Iterable} of identifiers or
+     * <i>null</i>
+     */
+    Map<String, Object> getRelationshipIds(DataBody dataBody, ResourceInformation resourceInformation) {
+        if (dataBody.getRelationships() == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> relationshipIds = new LinkedHashMap<>();
+        Map<String, Object> additionalProperties = dataBody.getRelationships().getAdditionalProperties();
+        for (Map.Entry<String, Object> property : additionalProperties.entrySet()) {
+            ResourceField relationshipField = resourceInformation.findRelationshipFieldByName(property.getKey());
+            if (relationshipField == null) {
+                throw new ResourceFieldNotFoundException(property.getKey());
+            }
+            Object value = property.getValue();
+            if (value == null) {
+                relationshipIds.put(relationshipField.getName(), null);
+            } else if (Iterable.class.isAssignableFrom(value.getClass())) {
+                //noinspection unchecked
+                relationshipIds.put(relationshipField.getName(), parseRelationshipIds((Iterable<LinkageData>) value));
+            } else {
+                relationshipIds.put(relationshipField.getName(), parseRelationshipId((LinkageData) value));
             }
         }
+        return relationshipIds;
+    }
+
+    private AttributesBinder getAttributesBinder(ResourceInformation resourceInformation) {
+        return attributesBinders.computeIfAbsent(resourceInformation.getResourceClass(),
+            resourceClass -> new AttributesBinder(objectMapper, resourceInformation));
+    }
+
+    static boolean hasRelationships(DataBody dataBody) {
+        return dataBody.getRelationships() != null && !dataBody.getRelationships().getAdditionalProperties().isEmpty();
     }
 
+    /**
+     * Saves relationships sent in a request body. Unlike reads, the saves are not spread over the {@link TaskGroup}
+     * of the request: they are made one by one on the calling thread, so a transaction bound to the thread which
+     * saves the resource covers its relationships as well.
+     */
     void saveRelations(Object savedResource, RegistryEntry registryEntry, DataBody dataBody)
             throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         if (dataBody.getRelationships() != null) {
@@ -54,37 +110,27 @@ public abstract class ResourceUpsert implements BaseController {
             for (Map.Entry<String, Object> property : additionalProperties.entrySet()) {
                 if (Iterable.class.isAssignableFrom(property.getValue().getClass())) {
                     //noinspection unchecked
-                    saveRelationsField(savedResource, registryEntry, (Map.Entry) property, registryEntry.getResourceInformation());
+                    saveRelationsField(savedResource, registryEntry, (Map.Entry) property,
+                        registryEntry.getResourceInformation());
                 } else {
                     //noinspection unchecked
-                    saveRelationField(savedResource, registryEntry, (Map.Entry) property, registryEntry.getResourceInformation());
+                    saveRelationField(savedResource, registryEntry, (Map.Entry) property,
+                        registryEntry.getResourceInformation());
                 }
-
             }
         }
     }
 
     private void saveRelationsField(Object savedResource, RegistryEntry registryEntry,
                                     Map.Entry<String, Iterable<LinkageData>> property,
-                                    ResourceInformation resourceInformation)
-            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+                                    ResourceInformation resourceInformation) {
         if (!allTypesTheSame(property.getValue())) {
             throw new ResourceException("Not all types are the same for linkage: " + property.getKey());
         }
 
         String type = getLinkageType(property.getValue());
         RegistryEntry relationRegistryEntry = getRelationRegistryEntry(type);
-        @SuppressWarnings("unchecked")
-        Class<? extends Serializable> relationshipIdClass = (Class<? extends Serializable>) relationRegistryEntry
-                .getResourceInformation()
-                .getIdField()
-                .getType();
-        List<Serializable> castedRelationIds = new LinkedList<>();
-
-        for (LinkageData linkageData : property.getValue()) {
-            Serializable castedRelationshipId = typeParser.parse(linkageData.getId(), relationshipIdClass);
-            castedRelationIds.add(castedRelationshipId);
-        }
+        List<Serializable> castedRelationIds = parseRelationshipIds(property.getValue());
 
         Class<?> relationshipClass = relationRegistryEntry.getResourceInformation().getResourceClass();
         RelationshipRepository relationshipRepository = registryEntry.getRelationshipRepositoryForClass(relationshipClass);
@@ -108,16 +154,9 @@ public abstract class ResourceUpsert implements BaseController {
     }
 
     private void saveRelationField(Object savedResource, RegistryEntry registryEntry,
-                                   Map.Entry<String, LinkageData> property, ResourceInformation resourceInformation)
-            throws NoSuchMethodException, IllegalAccessException, InstantiationException, InvocationTargetException {
+                                   Map.Entry<String, LinkageData> property, ResourceInformation resourceInformation) {
         RegistryEntry relationRegistryEntry = getRelationRegistryEntry(property.getValue().getType());
-
-        @SuppressWarnings("unchecked")
-        Class<? extends Serializable> relationshipIdClass = (Class<? extends Serializable>) relationRegistryEntry
-                .getResourceInformation()
-                .getIdField()
-                .getType();
-        Serializable castedRelationshipId = typeParser.parse(property.getValue().getId(), relationshipIdClass);
+        Serializable castedRelationshipId = parseRelationshipId(property.getValue());
 
         Class<?> relationshipClass = relationRegistryEntry.getResourceInformation().getResourceClass();
         RelationshipRepository relationshipRepository = registryEntry.getRelationshipRepositoryForClass(relationshipClass);
@@ -126,6 +165,24 @@ public abstract class ResourceUpsert implements BaseController {
         relationshipRepository.setRelation(savedResource, castedRelationshipId, relationshipField.getName());
     }
 
+    private List<Serializable> parseRelationshipIds(Iterable<LinkageData> linkages) {
+        List<Serializable> castedRelationIds = new LinkedList<>();
+        for (LinkageData linkageData : linkages) {
+            castedRelationIds.add(parseRelationshipId(linkageData));
+        }
+        return castedRelationIds;
+    }
+
+    private Serializable parseRelationshipId(LinkageData linkageData) {
+        RegistryEntry relationRegistryEntry = getRelationRegistryEntry(linkageData.getType());
+        @SuppressWarnings("unchecked")
+        Class<? extends Serializable> relationshipIdClass = (Class<? extends Serializable>) relationRegistryEntry
+                .getResourceInformation()
+                .getIdField()
+                .getType();
+        return typeParser.parse(linkageData.getId(), relationshipIdClass);
+    }
+
     private RegistryEntry getRelationRegistryEntry(String type) {
         RegistryEntry relationRegistryEntry = resourceRegistry.getEntry(type);
         if (relationRegistryEntry == null) {
@@ -1,25 +1,38 @@
 package io.katharsis.dispatcher.registry;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.ControllerKey.PathKind;
+import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathBuilder;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 /**
- * Stores a list of controllers which are used to process the incoming requests.
+ * Stores a list of controllers which are used to process the incoming requests. Controllers are indexed in a table by
+ * {@link ControllerKey}, so a controller is found without asking each controller whether it accepts a request.
+ * Controllers which don't declare handled keys are asked using
+ * {@link BaseController#isAcceptable(JsonPath, String)}, in the order they have been added.
  *
  * @see io.katharsis.dispatcher.RequestDispatcher
  */
 public class ControllerRegistry {
 
+    private static final Route[] NO_ROUTES = new Route[0];
+
     private final List<BaseController> controllers = new LinkedList<>();
+    private volatile Route[][] routes;
+    private volatile Route[] undeclaredRoutes;
 
     public ControllerRegistry(List<BaseController> baseControllers) {
         if (baseControllers != null) {
             controllers.addAll(baseControllers);
         }
+        buildRoutes();
     }
 
     /**
@@ -29,20 +42,78 @@ public class ControllerRegistry {
      */
     public void addController(BaseController controller) {
         controllers.add(controller);
+        buildRoutes();
     }
 
     /**
-     * Iterate over all registered controllers to get the first suitable one.
+     * Finds the first suitable controller among registered controllers.
      * @param jsonPath built JsonPath object mad from request path
      * @param requestType type of a HTTP request
      * @return suitable controller
      */
     public BaseController getController(JsonPath jsonPath, String requestType) {
-        for (BaseController controller : controllers) {
-            if (controller.isAcceptable(jsonPath, requestType)) {
-                return controller;
+        HttpMethod method = HttpMethod.parse(requestType);
+        PathKind pathKind = PathKind.of(jsonPath);
+        Route[] candidates = method != null && pathKind != null
+            ? routes[ControllerKey.indexOf(pathKind, jsonPath.isCollection(), method)]
+            : undeclaredRoutes;
+        for (Route route : candidates) {
+            if (route.declared || route.controller.isAcceptable(jsonPath, requestType)) {
+                return route.controller;
             }
         }
         throw new MethodNotFoundException(PathBuilder.buildPath(jsonPath), requestType);
     }
+
+    private synchronized void buildRoutes() {
+        List<List<Route>> newRoutes = new ArrayList<>(ControllerKey.COUNT);
+        for (int i = 0; i < ControllerKey.COUNT; i++) {
+            newRoutes.add(new ArrayList<>());
+        }
+        List<Route> newUndeclaredRoutes = new ArrayList<>();
+        for (BaseController controller : controllers) {
+            Set<ControllerKey> handledKeys = controller.getHandledKeys();
+            if (handledKeys == null || handledKeys.isEmpty()) {
+                Route route = new Route(controller, false);
+                newUndeclaredRoutes.add(route);
+                newRoutes.forEach(keyRoutes -> keyRoutes.add(route));
+            } else {
+                Route route = new Route(controller, true);
+                for (ControllerKey key : handledKeys) {
+                    newRoutes.get(key.index()).add(route);
+                }
+            }
+        }
+
+        Route[][] routeTable = new Route[ControllerKey.COUNT][];
+        for (int i = 0; i < ControllerKey.COUNT; i++) {
+            routeTable[i] = toArray(newRoutes.get(i));
+        }
+        routes = routeTable;
+        undeclaredRoutes = toArray(newUndeclaredRoutes);
+    }
+
+    /**
+     * Routes following a declared route are never used, so they are skipped.
+     */
+    private static Route[] toArray(List<Route> routes) {
+        int count = 0;
+        for (Route route : routes) {
+            count++;
+            if (route.declared) {
+                break;
+            }
+        }
+        return count > 0 ? routes.subList(0, count).toArray(new Route[count]) : NO_ROUTES;
+    }
+
+    private static final class Route {
+        private final BaseController controller;
+        private final boolean declared;
+
+        Route(BaseController controller, boolean declared) {
+            this.controller = controller;
+            this.declared = declared;
+        }
+    }
 }
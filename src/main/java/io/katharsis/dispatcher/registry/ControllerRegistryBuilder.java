@@ -1,6 +1,7 @@
 package io.katharsis.dispatcher.registry;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.CoalescingController;
 import io.katharsis.dispatcher.controller.BaseController;
 import io.katharsis.dispatcher.controller.resource.ResourceUpsert;
 import io.katharsis.resource.registry.ResourceRegistry;
@@ -13,6 +14,7 @@ import java.lang.reflect.Modifier;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * A builder class which holds all of the Katharsis controllers, which must be placed in
@@ -38,8 +40,35 @@ public class ControllerRegistryBuilder {
      * @throws Exception initialization exception
      */
     public ControllerRegistry build() throws Exception {
+        return build(false);
+    }
 
+    /**
+     * Scans an internal Katharsis package for controllers and then instantiates them.
+     *
+     * @param coalesceReads if <i>true</i>, controllers which handle only GET requests are wrapped in
+     *                      {@link CoalescingController}, so identical concurrent requests share one response. The
+     *                      response is shared across all callers, so this must not be used if repositories return
+     *                      data depending on the caller, e.g. on a security context or a tenant. Use
+     *                      {@link #build(boolean, Supplier)} with a key qualifier for such repositories.
+     * @return an instance of {@link ControllerRegistry} with initialized controllers
+     * @throws Exception initialization exception
+     */
+    public ControllerRegistry build(boolean coalesceReads) throws Exception {
+        return build(coalesceReads, () -> null);
+    }
 
+    /**
+     * Scans an internal Katharsis package for controllers and then instantiates them.
+     *
+     * @param coalesceReads          if <i>true</i>, controllers which handle only GET requests are wrapped in
+     *                               {@link CoalescingController}, so identical concurrent requests share one response
+     * @param coalescingKeyQualifier called on the thread handling a request, identical requests share a response only
+     *                               if it returns equal values for them, e.g. the same principal or tenant id
+     * @return an instance of {@link ControllerRegistry} with initialized controllers
+     * @throws Exception initialization exception
+     */
+    public ControllerRegistry build(boolean coalesceReads, Supplier<?> coalescingKeyQualifier) throws Exception {
         Reflections reflections = new Reflections("io.katharsis.dispatcher.controller");
 
         Set<Class<? extends BaseController>> controllerClasses =
@@ -49,6 +78,9 @@ public class ControllerRegistryBuilder {
         for (Class<? extends BaseController> controllerClass : controllerClasses) {
             if (!Modifier.isAbstract(controllerClass.getModifiers())) {
                 BaseController controller = getController(controllerClass);
+                if (coalesceReads && CoalescingController.isReadOnly(controller)) {
+                    controller = new CoalescingController(controller, coalescingKeyQualifier);
+                }
                 controllers.add(controller);
             }
         }
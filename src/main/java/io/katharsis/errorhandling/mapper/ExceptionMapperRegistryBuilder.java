@@ -1,7 +1,7 @@
 package io.katharsis.errorhandling.mapper;
 
 import io.katharsis.resource.exception.init.InvalidResourceException;
-import org.reflections.Reflections;
+import io.katharsis.resource.registry.ResourceIndex;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -17,8 +17,19 @@ public final class ExceptionMapperRegistryBuilder {
     }
 
     public ExceptionMapperRegistry build(String resourceSearchPackage) throws IllegalAccessException, InstantiationException {
+        return build(ResourceIndex.get(resourceSearchPackage));
+    }
+
+    /**
+     * Builds a registry of the default mappers and mappers listed in an index, so a classpath scan done for
+     * {@link io.katharsis.resource.registry.ResourceRegistryBuilder} can be reused.
+     *
+     * @param resourceIndex index containing exception mappers
+     * @return an instance of ExceptionMapperRegistry
+     */
+    public ExceptionMapperRegistry build(ResourceIndex resourceIndex) throws IllegalAccessException, InstantiationException {
         addKatharsisDefaultMappers();
-        scanForCustomMappers(resourceSearchPackage);
+        registerCustomMappers(resourceIndex);
         return new ExceptionMapperRegistry(exceptionMappers);
     }
 
@@ -26,17 +37,9 @@ public final class ExceptionMapperRegistryBuilder {
         registerExceptionMapper(new KatharsisExceptionMapper());
     }
 
-    private void scanForCustomMappers(String resourceSearchPackage) throws InstantiationException, IllegalAccessException {
-        Reflections reflections;
-        if (resourceSearchPackage != null) {
-            String[] packageNames = resourceSearchPackage.split(",");
-            reflections = new Reflections(packageNames);
-        } else {
-            reflections = new Reflections(resourceSearchPackage);
-        }
-        Set<Class<?>> exceptionMapperClasses = reflections.getTypesAnnotatedWith(ExceptionMapperProvider.class);
-
-        for (Class<?> exceptionMapperClazz : exceptionMapperClasses) {
+    private void registerCustomMappers(ResourceIndex resourceIndex) throws InstantiationException, IllegalAccessException {
+        for (String exceptionMapperClassName : resourceIndex.getExceptionMappers()) {
+            Class<?> exceptionMapperClazz = ResourceIndex.loadClass(exceptionMapperClassName);
             if (!JsonApiExceptionMapper.class.isAssignableFrom(exceptionMapperClazz)) {
                 throw new InvalidResourceException(exceptionMapperClazz.getCanonicalName() + " is not an implementation of JsonApiExceptionMapper");
             }
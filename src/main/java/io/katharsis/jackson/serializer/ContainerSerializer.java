@@ -6,19 +6,18 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import io.katharsis.jackson.exception.JsonSerializationException;
 import io.katharsis.request.dto.Attributes;
 import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceAccessor;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.Container;
 import io.katharsis.response.DataLinksContainer;
-import io.katharsis.utils.BeanUtils;
-import io.katharsis.utils.PropertyUtils;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * This class serializes an single resource which can be included in <i>data</i> field of JSON API response.
@@ -64,61 +63,61 @@ public class ContainerSerializer extends JsonSerializer<Container> {
 
         RegistryEntry entry = resourceRegistry.getEntry(dataClass);
         ResourceInformation resourceInformation = entry.getResourceInformation();
-        try {
-            writeId(gen, data, resourceInformation.getIdField());
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new JsonSerializationException(
-                "Error writing id field: " + resourceInformation.getIdField().getName());
-        }
+        String id = writeId(gen, data, resourceInformation);
 
         try {
-            writeAttributes(gen, data, resourceInformation.getAttributeFields(), includedFields);
+            writeAttributes(gen, data, resourceInformation, includedFields);
         } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
             throw new JsonSerializationException("Error writing basic fields: " +
                 resourceInformation.getAttributeFields().stream().map(ResourceField::getName)
                     .collect(Collectors.toSet()));
         }
 
-        Set<ResourceField> relationshipFields = getRelationshipFields(resourceInformation, includedFields);
-        writeRelationshipFields(gen, data, relationshipFields);
-        writeLinksField(gen, data);
+        String resourceUrl = resourceRegistry.getResourceUrl(dataClass) + "/" + id;
+        int[] relationshipIndexes = getRelationshipIndexes(resourceInformation, includedFields);
+        writeRelationshipFields(gen, data, resourceInformation, relationshipIndexes, resourceUrl);
+        writeLinksField(gen, resourceUrl);
     }
 
-    private Set<ResourceField> getRelationshipFields(ResourceInformation resourceInformation, List includedFields) {
-        Set<ResourceField> relationshipFields = resourceInformation.getRelationshipFields();
-
-        if (includedFields == null || includedFields.isEmpty()) {
-            return relationshipFields;
-        } else {
-            return relationshipFields
-                .stream()
-                .filter(field -> includedFields.contains(field.getName()))
-                .collect(Collectors.toSet());
-        }
+    /**
+     * The id MUST be written as a string
+     * <a href="http://jsonapi.org/format/#document-structure-resource-ids">Resource IDs</a>. It is formatted only once
+     * and reused in the links of the resource.
+     *
+     * @return formatted id
+     */
+    private String writeId(JsonGenerator gen, Object data, ResourceInformation resourceInformation)
+        throws IOException {
+        String id = IdWriter.formatId(resourceInformation.getAccessor(), data);
+        gen.writeStringField(ID_FIELD_NAME, id);
+        return id;
     }
 
     /**
-     * The id MUST be written as a string
-     * <a href="http://jsonapi.org/format/#document-structure-resource-ids">Resource IDs</a>.
+     * @return indexes of the included relationships or <i>null</i> if all of them are included
      */
-    private void writeId(JsonGenerator gen, Object data, ResourceField idField)
-        throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, IOException {
-        String sourceId = BeanUtils.getProperty(data, idField.getName());
-        gen.writeObjectField(ID_FIELD_NAME, sourceId);
+    private int[] getRelationshipIndexes(ResourceInformation resourceInformation, List<String> includedFields) {
+        if (includedFields == null || includedFields.isEmpty()) {
+            return null;
+        }
+        return IntStream.range(0, resourceInformation.getRelationshipCount())
+            .filter(i -> includedFields.contains(resourceInformation.getRelationshipField(i).getName()))
+            .toArray();
     }
 
-    private void writeAttributes(JsonGenerator gen, Object data, Set<ResourceField> attributeFields,
+    private void writeAttributes(JsonGenerator gen, Object data, ResourceInformation resourceInformation,
                                  List<String> includedFields)
         throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, IOException {
 
+        ResourceAccessor accessor = resourceInformation.getAccessor();
         Attributes attributesObject = new Attributes();
-        attributeFields
-            .stream()
-            .filter(attributeField -> isIncluded(includedFields, attributeField))
-            .forEach(attributeField -> {
-                Object basicFieldValue = PropertyUtils.getProperty(data, attributeField.getName());
+        for (int i = 0; i < resourceInformation.getAttributeCount(); i++) {
+            ResourceField attributeField = resourceInformation.getAttributeField(i);
+            if (isIncluded(includedFields, attributeField)) {
+                Object basicFieldValue = accessor.getAttribute(data, i);
                 attributesObject.addAttribute(attributeField.getName(), basicFieldValue);
-            });
+            }
+        }
         gen.writeObjectField(ATTRIBUTES_FIELD_NAME, attributesObject);
     }
 
@@ -126,29 +125,20 @@ public class ContainerSerializer extends JsonSerializer<Container> {
         return includedFields == null || includedFields.isEmpty() || includedFields.contains(attributeField.getName());
     }
 
-    private void writeRelationshipFields(JsonGenerator gen, Object data, Set<ResourceField> relationshipFields)
-        throws IOException {
-        DataLinksContainer dataLinksContainer = new DataLinksContainer(data, relationshipFields);
+    private void writeRelationshipFields(JsonGenerator gen, Object data, ResourceInformation resourceInformation,
+                                         int[] relationshipIndexes, String resourceUrl) throws IOException {
+        DataLinksContainer dataLinksContainer = new DataLinksContainer(data, resourceInformation, relationshipIndexes,
+            resourceUrl);
         gen.writeObjectField(RELATIONSHIPS_FIELD_NAME, dataLinksContainer);
     }
 
-    private void writeLinksField(JsonGenerator gen, Object data) throws IOException {
+    private void writeLinksField(JsonGenerator gen, String resourceUrl) throws IOException {
         gen.writeFieldName(LINKS_FIELD_NAME);
         gen.writeStartObject();
-        writeSelfLink(gen, data);
+        gen.writeStringField(SELF_FIELD_NAME, resourceUrl);
         gen.writeEndObject();
     }
 
-    private void writeSelfLink(JsonGenerator gen, Object data) throws IOException {
-        Class<?> sourceClass = data.getClass();
-        String resourceUrl = resourceRegistry.getResourceUrl(sourceClass);
-        RegistryEntry entry = resourceRegistry.getEntry(sourceClass);
-        ResourceField idField = entry.getResourceInformation().getIdField();
-
-        Object sourceId = PropertyUtils.getProperty(data, idField.getName());
-        gen.writeStringField(SELF_FIELD_NAME, resourceUrl + "/" + sourceId);
-    }
-
     public Class<Container> handledType() {
         return Container.class;
     }
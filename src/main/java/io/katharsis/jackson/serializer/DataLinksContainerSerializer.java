@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.DataLinksContainer;
 import io.katharsis.response.RelationshipContainer;
@@ -23,9 +24,19 @@ public class DataLinksContainerSerializer extends JsonSerializer<DataLinksContai
     public void serialize(DataLinksContainer dataLinksContainer, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         gen.writeStartObject();
 
-        for (ResourceField field : dataLinksContainer.getRelationshipFields()) {
-            RelationshipContainer relationshipContainer = new RelationshipContainer(dataLinksContainer, field);
-            gen.writeObjectField(field.getName(), relationshipContainer);
+        ResourceInformation resourceInformation = dataLinksContainer.getResourceInformation();
+        if (resourceInformation != null) {
+            for (int i = 0; i < dataLinksContainer.getRelationshipCount(); i++) {
+                int relationshipIndex = dataLinksContainer.getRelationshipIndex(i);
+                ResourceField field = resourceInformation.getRelationshipField(relationshipIndex);
+                gen.writeObjectField(field.getName(),
+                    new RelationshipContainer(dataLinksContainer, field, relationshipIndex));
+            }
+        } else {
+            for (ResourceField field : dataLinksContainer.getRelationshipFields()) {
+                RelationshipContainer relationshipContainer = new RelationshipContainer(dataLinksContainer, field);
+                gen.writeObjectField(field.getName(), relationshipContainer);
+            }
         }
 
         gen.writeEndObject();
@@ -0,0 +1,116 @@
+package io.katharsis.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.katharsis.resource.information.ResourceAccessor;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Writes resource ids as JSON strings, as required by
+ * <a href="http://jsonapi.org/format/#document-structure-resource-ids">Resource IDs</a>. Integral and {@link UUID}
+ * ids are formatted directly into a per-thread character buffer passed to {@link JsonGenerator}, so neither a boxed
+ * value nor an intermediate String is created. Other ids are written using their {@link Object#toString()} value.
+ */
+final class IdWriter {
+
+    private static final String NULL_ID = "null";
+    private static final int UUID_LENGTH = 36;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[UUID_LENGTH]);
+
+    private IdWriter() {
+    }
+
+    /**
+     * Writes an id of a resource as a JSON string value.
+     *
+     * @param gen      target generator
+     * @param accessor accessor of the resource
+     * @param resource resource to be accessed
+     * @throws IOException if the value cannot be written
+     */
+    static void writeId(JsonGenerator gen, ResourceAccessor accessor, Object resource) throws IOException {
+        if (accessor.isLongId()) {
+            writeLong(gen, accessor.getLongId(resource));
+            return;
+        }
+        Object id = accessor.getId(resource);
+        if (isIntegral(id)) {
+            writeLong(gen, ((Number) id).longValue());
+        } else if (id instanceof UUID) {
+            char[] buffer = BUFFER.get();
+            formatUuid((UUID) id, buffer);
+            gen.writeString(buffer, 0, UUID_LENGTH);
+        } else {
+            gen.writeString(id != null ? id.toString() : NULL_ID);
+        }
+    }
+
+    /**
+     * Formats an id of a resource. To be used when the id is a part of a bigger value, e.g. a link.
+     *
+     * @param accessor accessor of the resource
+     * @param resource resource to be accessed
+     * @return formatted id
+     */
+    static String formatId(ResourceAccessor accessor, Object resource) {
+        if (accessor.isLongId()) {
+            return Long.toString(accessor.getLongId(resource));
+        }
+        Object id = accessor.getId(resource);
+        return id != null ? id.toString() : NULL_ID;
+    }
+
+    private static boolean isIntegral(Object id) {
+        return id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte;
+    }
+
+    private static void writeLong(JsonGenerator gen, long value) throws IOException {
+        char[] buffer = BUFFER.get();
+        int position = formatLong(value, buffer);
+        gen.writeString(buffer, position, buffer.length - position);
+    }
+
+    /**
+     * Formats a number at the end of the buffer. Negative values are used for the computation, so that
+     * {@link Long#MIN_VALUE} is handled as well.
+     *
+     * @return index of the first character
+     */
+    static int formatLong(long value, char[] buffer) {
+        int position = buffer.length;
+        boolean negative = value < 0;
+        long remaining = negative ? value : -value;
+        do {
+            buffer[--position] = (char) ('0' - (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        if (negative) {
+            buffer[--position] = '-';
+        }
+        return position;
+    }
+
+    static void formatUuid(UUID uuid, char[] buffer) {
+        long mostSignificantBits = uuid.getMostSignificantBits();
+        long leastSignificantBits = uuid.getLeastSignificantBits();
+        formatHex(mostSignificantBits >>> 32, buffer, 0, 8);
+        buffer[8] = '-';
+        formatHex(mostSignificantBits >>> 16, buffer, 9, 4);
+        buffer[13] = '-';
+        formatHex(mostSignificantBits, buffer, 14, 4);
+        buffer[18] = '-';
+        formatHex(leastSignificantBits >>> 48, buffer, 19, 4);
+        buffer[23] = '-';
+        formatHex(leastSignificantBits, buffer, 24, 12);
+    }
+
+    private static void formatHex(long value, char[] buffer, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
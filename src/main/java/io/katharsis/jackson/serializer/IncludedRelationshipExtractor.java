@@ -2,28 +2,31 @@ package io.katharsis.jackson.serializer;
 
 import io.katharsis.queryParams.include.Inclusion;
 import io.katharsis.request.path.ResourcePath;
-import io.katharsis.resource.annotations.JsonApiIncludeByDefault;
-import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.exception.ResourceFieldNotFoundException;
+import io.katharsis.resource.information.ResourceAccessor;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.Container;
-import io.katharsis.utils.PropertyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 /**
- * Extracts inclusions from a resource.
+ * Extracts inclusions from a resource. Paths passed in the <i>include</i> parameter are compiled into
+ * {@link InclusionPlan} once for each resource class and reused for following resources and requests.
  */
 public class IncludedRelationshipExtractor {
     private static final Logger logger = LoggerFactory.getLogger(IncludedRelationshipExtractor.class);
+    private static final int MAX_CACHED_INCLUSION_PLANS = 1024;
+
     private final ResourceRegistry resourceRegistry;
+    private final ConcurrentMap<InclusionPlanKey, InclusionPlan> inclusionPlans = new ConcurrentHashMap<>();
 
     public IncludedRelationshipExtractor(ResourceRegistry resourceRegistry) {
         this.resourceRegistry = resourceRegistry;
@@ -33,124 +36,175 @@ public class IncludedRelationshipExtractor {
         Set includedResources = new HashSet<>();
         //noinspection unchecked
         includedResources.addAll(extractDefaultIncludedFields(resource, response));
-        try {
-            //noinspection unchecked
-            includedResources.addAll(extractIncludedRelationships(resource, response));
-        } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException | NoSuchFieldException e) {
-            logger.info("Exception while extracting included fields", e);
-        }
+        //noinspection unchecked
+        includedResources.addAll(extractIncludedRelationships(resource, response));
 
         return includedResources;
     }
 
     private List<?> extractDefaultIncludedFields(Object resource, BaseResponse response) {
-        List<?> includedResources = getIncludedByDefaultResources(resource, 1);
+        if (resource == null) {
+            return Collections.emptyList();
+        }
+        Set<ResourceKey> visited = new HashSet<>();
+        Map<ResourceKey, Object> includedResources = new LinkedHashMap<>();
+        RegistryEntry entry = resourceRegistry.getEntry(resource.getClass());
+        visited.add(new ResourceKey(entry, resource));
+        collectIncludedByDefault(entry.getResourceInformation(), resource, visited, includedResources);
 
-        return includedResources
+        return includedResources.values()
             .stream()
             .map(includedResource -> new Container(includedResource, response.getRequestParams()))
             .collect(Collectors.toList());
     }
 
+    /**
+     * Walks relationships marked by JsonApiIncludeByDefault annotation. Each resource, identified by its type and id,
+     * is walked only once, so cycles in a graph of resources end the traversal.
+     */
+    private void collectIncludedByDefault(ResourceInformation resourceInformation, Object resource,
+                                          Set<ResourceKey> visited, Map<ResourceKey, Object> includedResources) {
+        ResourceAccessor accessor = resourceInformation.getAccessor();
+        for (int i = 0; i < resourceInformation.getIncludedByDefaultRelationshipCount(); i++) {
+            Object targetDataObj = accessor.getRelationship(resource,
+                resourceInformation.getIncludedByDefaultRelationshipIndex(i));
+            if (targetDataObj instanceof Iterable) {
+                for (Object objectItem : (Iterable) targetDataObj) {
+                    collectIncludedResource(objectItem, visited, includedResources);
+                }
+            } else {
+                collectIncludedResource(targetDataObj, visited, includedResources);
+            }
+        }
+    }
 
-    private List<?> getIncludedByDefaultResources(Object resource, int recurrenceLevel) {
-        if (recurrenceLevel >= 42 || resource == null) {
+    private void collectIncludedResource(Object resource, Set<ResourceKey> visited,
+                                         Map<ResourceKey, Object> includedResources) {
+        if (resource == null) {
+            return;
+        }
+        RegistryEntry entry = resourceRegistry.getEntry(resource.getClass());
+        ResourceKey key = new ResourceKey(entry, resource);
+        includedResources.putIfAbsent(key, resource);
+        if (visited.add(key)) {
+            collectIncludedByDefault(entry.getResourceInformation(), resource, visited, includedResources);
+        }
+    }
+
+    private List<?> extractIncludedRelationships(Object resource, BaseResponse response) {
+        List<Inclusion> includedRelations = response.getRequestParams().getIncludedRelations();
+        if (resource == null || includedRelations == null || includedRelations.isEmpty()) {
             return Collections.emptyList();
         }
+        // the first property name is the resource itself
+        boolean relativeToResource = !(response.getJsonPath() instanceof ResourcePath);
+        List<Object> includedResources = new ArrayList<>();
+        for (Inclusion inclusion : includedRelations) {
+            getInclusionPlan(resource.getClass(), inclusion, relativeToResource).collect(resource, includedResources);
+        }
 
-        Set<ResourceField> relationshipFields = getRelationshipFields(resource);
-        List includedFields = new LinkedList<>();
+        return includedResources
+            .stream()
+            .map(includedResource -> new Container(includedResource, response.getRequestParams()))
+            .collect(Collectors.toList());
+    }
 
-        //noinspection unchecked
-        for (ResourceField resourceField : relationshipFields) {
-            if (resourceField.isAnnotationPresent(JsonApiIncludeByDefault.class)) {
-
-                Object targetDataObj = PropertyUtils.getProperty(resource, resourceField.getName());
-
-                if (targetDataObj != null) {
-                    recurrenceLevel++;
-
-                    if (targetDataObj instanceof Iterable) {
-                        for (Object objectItem : (Iterable) targetDataObj) {
-                            //noinspection unchecked
-                            includedFields.add(objectItem);
-                            //noinspection unchecked
-                            includedFields.addAll(getIncludedByDefaultResources(objectItem, recurrenceLevel));
-                        }
-                    } else {
-                        //noinspection unchecked
-                        includedFields.add(targetDataObj);
-                        //noinspection unchecked
-                        includedFields.addAll(getIncludedByDefaultResources(targetDataObj, recurrenceLevel));
-                    }
-                }
+    private InclusionPlan getInclusionPlan(Class<?> resourceClass, Inclusion inclusion, boolean relativeToResource) {
+        InclusionPlanKey key = new InclusionPlanKey(resourceClass, inclusion.getPath(), relativeToResource);
+        InclusionPlan inclusionPlan = inclusionPlans.get(key);
+        if (inclusionPlan == null) {
+            inclusionPlan = compileInclusionPlan(key);
+            // paths can be nested indefinitely in cyclic models, so the number of cached paths is limited
+            if (inclusionPlans.size() < MAX_CACHED_INCLUSION_PLANS) {
+                inclusionPlans.putIfAbsent(key, inclusionPlan);
             }
         }
-
-        return includedFields;
+        return inclusionPlan;
     }
 
-    private List<?> extractIncludedRelationships(Object resource, BaseResponse response)
-        throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
-        List<?> includedResources = new LinkedList<>();
-        List<Inclusion> includedRelations = response.getRequestParams().getIncludedRelations();
-        if (includedRelations != null) {
-            for (Inclusion inclusion : includedRelations) {
-                //noinspection unchecked
-                includedResources.addAll(extractIncludedRelationship(resource, inclusion, response));
-            }
+    /**
+     * A path with an unknown relationship is ignored, as the response is already being serialized and a partial
+     * inclusion is better than failing it.
+     */
+    private InclusionPlan compileInclusionPlan(InclusionPlanKey key) {
+        List<String> pathList = Arrays.asList(key.path.split("\\."));
+        if (key.relativeToResource) {
+            pathList = pathList.subList(1, pathList.size());
+        }
+        try {
+            return InclusionPlan.compile(resourceRegistry, key.resourceClass, pathList);
+        } catch (ResourceFieldNotFoundException e) {
+            logger.info("Ignoring unknown inclusion {} of {}", key.path, key.resourceClass.getName());
+            return InclusionPlan.empty();
         }
-        return includedResources;
     }
 
-    private Set extractIncludedRelationship(Object resource, Inclusion inclusion, BaseResponse response)
-        throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
-        List<String> pathList = inclusion.getPathList();
-        if (resource == null || pathList.isEmpty()) {
-            return Collections.EMPTY_SET;
+    /**
+     * Identifies a compiled inclusion path.
+     */
+    private static final class InclusionPlanKey {
+        private final Class<?> resourceClass;
+        private final String path;
+        private final boolean relativeToResource;
+
+        InclusionPlanKey(Class<?> resourceClass, String path, boolean relativeToResource) {
+            this.resourceClass = resourceClass;
+            this.path = path;
+            this.relativeToResource = relativeToResource;
         }
-        if (!(response.getJsonPath() instanceof ResourcePath)) { // the first property name is the resource itself
-            pathList = pathList.subList(1, pathList.size());
-            if (pathList.isEmpty()) {
-                return Collections.EMPTY_SET;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InclusionPlanKey)) {
+                return false;
             }
+            InclusionPlanKey that = (InclusionPlanKey) o;
+            return resourceClass == that.resourceClass && relativeToResource == that.relativeToResource
+                && path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * resourceClass.hashCode() + path.hashCode()) + (relativeToResource ? 1 : 0);
         }
-        return getElements(resource, pathList, response);
     }
 
-    private Set getElements(Object resource, List<String> pathList, BaseResponse response)
-        throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
-        Set elements = new HashSet();
-        if (pathList.isEmpty()) {
-            if (resource != null) {
-                return Collections.singleton(new Container(resource, response.getRequestParams()));
-            } else {
-                return Collections.emptySet();
-            }
+    /**
+     * Identifies a resource by its type and id. Resources without an id are compared by identity.
+     */
+    private static final class ResourceKey {
+        private final RegistryEntry entry;
+        private final Object id;
+        private final Object resource;
+
+        ResourceKey(RegistryEntry entry, Object resource) {
+            this.entry = entry;
+            this.id = entry.getResourceInformation().getAccessor().getId(resource);
+            this.resource = resource;
         }
-        Field field = resource.getClass().getDeclaredField(pathList.get(0));
-        Object property = PropertyUtils.getProperty(resource, field.getName());
-        if (property != null) {
-            List<String> subPathList = pathList.subList(1, pathList.size());
-            if (Iterable.class.isAssignableFrom(property.getClass())) {
-                for (Object o : ((Iterable) property)) {
-                    //noinspection unchecked
-                    elements.addAll(getElements(o, subPathList, response));
-                }
-            } else {
-                //noinspection unchecked
-                elements.addAll(getElements(property, subPathList, response));
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResourceKey)) {
+                return false;
+            }
+            ResourceKey that = (ResourceKey) o;
+            if (entry != that.entry) {
+                return false;
             }
-        } else {
-            return Collections.emptySet();
+            return id != null ? id.equals(that.id) : that.id == null && resource == that.resource;
         }
-        return elements;
-    }
 
-    private Set<ResourceField> getRelationshipFields(Object resource) {
-        Class<?> dataClass = resource.getClass();
-        RegistryEntry entry = resourceRegistry.getEntry(dataClass);
-        ResourceInformation resourceInformation = entry.getResourceInformation();
-        return resourceInformation.getRelationshipFields();
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(entry)
+                + (id != null ? id.hashCode() : System.identityHashCode(resource));
+        }
     }
 }
@@ -0,0 +1,97 @@
+package io.katharsis.jackson.serializer;
+
+import io.katharsis.resource.exception.ResourceFieldNotFoundException;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A path of relationships passed in an <i>include</i> parameter, resolved against {@link ResourceInformation} of each
+ * resource on the path. Resolving is done once for a resource class and a path, so walking resources only reads the
+ * relationships through {@link io.katharsis.resource.information.ResourceAccessor}.
+ */
+final class InclusionPlan {
+
+    private static final InclusionPlan EMPTY = new InclusionPlan(new ResourceInformation[0], new int[0]);
+
+    private final ResourceInformation[] resourceInformations;
+    private final int[] relationshipIndexes;
+
+    private InclusionPlan(ResourceInformation[] resourceInformations, int[] relationshipIndexes) {
+        this.resourceInformations = resourceInformations;
+        this.relationshipIndexes = relationshipIndexes;
+    }
+
+    /**
+     * @return a path which finds no resources
+     */
+    static InclusionPlan empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Resolves a path of relationships.
+     *
+     * @param resourceRegistry registry of resources on the path
+     * @param rootClass        class of a resource the path starts from
+     * @param pathList         names of relationships
+     * @return resolved path
+     * @throws ResourceFieldNotFoundException if any of the names is not a relationship of a resource on the path
+     */
+    static InclusionPlan compile(ResourceRegistry resourceRegistry, Class<?> rootClass, List<String> pathList) {
+        if (pathList.isEmpty()) {
+            return EMPTY;
+        }
+        ResourceInformation[] resourceInformations = new ResourceInformation[pathList.size()];
+        int[] relationshipIndexes = new int[pathList.size()];
+        RegistryEntry<?> currentEntry = resourceRegistry.getEntry(rootClass);
+        for (int i = 0; i < pathList.size(); i++) {
+            ResourceInformation resourceInformation = currentEntry.getResourceInformation();
+            int relationshipIndex = resourceInformation.findRelationshipFieldIndex(pathList.get(i));
+            if (relationshipIndex < 0) {
+                throw new ResourceFieldNotFoundException(String.join(".", pathList));
+            }
+            resourceInformations[i] = resourceInformation;
+            relationshipIndexes[i] = relationshipIndex;
+
+            if (i < pathList.size() - 1) {
+                currentEntry = resourceRegistry.getEntry(resourceInformation.getRelationshipField(relationshipIndex));
+            }
+        }
+        return new InclusionPlan(resourceInformations, relationshipIndexes);
+    }
+
+    /**
+     * Adds resources found at the end of the path to the collection. An empty path finds no resources, so the resource
+     * the path starts from is never included.
+     *
+     * @param resource resource the path starts from
+     * @param target   collection of found resources
+     */
+    void collect(Object resource, Collection<Object> target) {
+        if (relationshipIndexes.length > 0) {
+            collect(resource, 0, target);
+        }
+    }
+
+    private void collect(Object resource, int step, Collection<Object> target) {
+        if (resource == null) {
+            return;
+        }
+        if (step == relationshipIndexes.length) {
+            target.add(resource);
+            return;
+        }
+        Object property = resourceInformations[step].getAccessor().getRelationship(resource, relationshipIndexes[step]);
+        if (property instanceof Iterable) {
+            for (Object element : (Iterable<?>) property) {
+                collect(element, step + 1, target);
+            }
+        } else {
+            collect(property, step + 1, target);
+        }
+    }
+}
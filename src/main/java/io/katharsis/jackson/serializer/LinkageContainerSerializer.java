@@ -3,10 +3,9 @@ package io.katharsis.jackson.serializer;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceAccessor;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.LinkageContainer;
-import io.katharsis.utils.BeanUtils;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -46,9 +45,9 @@ public class LinkageContainerSerializer extends JsonSerializer<LinkageContainer>
 
     private void writeId(JsonGenerator gen, LinkageContainer linkageContainer)
             throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, IOException {
-        ResourceField idField = linkageContainer.getRelationshipEntry().getResourceInformation().getIdField();
-        String sourceId = BeanUtils.getProperty(linkageContainer.getObjectItem(), idField.getName());
-        gen.writeObjectField(ID_FIELD_NAME, sourceId);
+        ResourceAccessor accessor = linkageContainer.getRelationshipEntry().getResourceInformation().getAccessor();
+        gen.writeFieldName(ID_FIELD_NAME);
+        IdWriter.writeId(gen, accessor, linkageContainer.getObjectItem());
     }
 
     public Class<LinkageContainer> handledType() {
@@ -6,12 +6,12 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import io.katharsis.jackson.exception.JsonSerializationException;
 import io.katharsis.request.path.PathBuilder;
 import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.DataLinksContainer;
 import io.katharsis.response.LinkageContainer;
 import io.katharsis.response.RelationshipContainer;
-import io.katharsis.utils.Generics;
-import io.katharsis.utils.PropertyUtils;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -56,14 +56,8 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
 
     private void writeLink(RelationshipContainer relationshipContainer, JsonGenerator gen, String fieldName,
                            boolean addLinks) throws IOException {
-        Object data = relationshipContainer.getDataLinksContainer().getData();
-        Class<?> sourceClass = data.getClass();
-        String resourceUrl = resourceRegistry.getResourceUrl(sourceClass);
-        RegistryEntry entry = resourceRegistry.getEntry(sourceClass);
-        ResourceField idField = entry.getResourceInformation().getIdField();
-
-        Object sourceId = PropertyUtils.getProperty(data, idField.getName());
-        String url = resourceUrl + "/" + sourceId + (addLinks ? "/" + PathBuilder.RELATIONSHIP_MARK + "/" : "/")
+        String resourceUrl = getResourceUrl(relationshipContainer.getDataLinksContainer());
+        String url = resourceUrl + (addLinks ? "/" + PathBuilder.RELATIONSHIP_MARK + "/" : "/")
             + relationshipContainer.getRelationshipField().getName();
         gen.writeStringField(fieldName, url);
     }
@@ -77,20 +71,20 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
      * @throws IOException
      */
     private void writeLinkage(RelationshipContainer relationshipContainer, JsonGenerator gen) throws IOException {
-        Class baseClass = relationshipContainer.getRelationshipField().getType();
-        Class relationshipClass = Generics
-            .getResourceClass(relationshipContainer.getRelationshipField().getGenericType(), baseClass);
-        RegistryEntry relationshipEntry = resourceRegistry.getEntry(relationshipClass);
+        ResourceField relationshipField = relationshipContainer.getRelationshipField();
+        Class relationshipClass = relationshipField.getTargetClass();
+        RegistryEntry relationshipEntry = resourceRegistry.getEntry(relationshipField);
 
         gen.writeFieldName(DATA_FIELD_NAME);
-        writeLinkageField(relationshipContainer, gen, baseClass, relationshipClass, relationshipEntry);
+        writeLinkageField(relationshipContainer, gen, relationshipField.isCollection(), relationshipClass,
+            relationshipEntry);
     }
 
-    private void writeLinkageField(RelationshipContainer relationshipContainer, JsonGenerator gen, Class baseClass,
+    private void writeLinkageField(RelationshipContainer relationshipContainer, JsonGenerator gen, boolean collection,
                                    Class relationshipClass, RegistryEntry relationshipEntry)
         throws IOException {
         try {
-            if (Iterable.class.isAssignableFrom(baseClass)) {
+            if (collection) {
                 writeToManyLinkage(relationshipContainer, gen, relationshipClass, relationshipEntry);
             } else {
                 writeToOneLinkage(relationshipContainer, gen, relationshipClass, relationshipEntry);
@@ -103,9 +97,7 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
     private void writeToManyLinkage(RelationshipContainer relationshipContainer, JsonGenerator gen,
                                     Class relationshipClass, RegistryEntry relationshipEntry)
         throws IOException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
-        ResourceField relationshipField = relationshipContainer.getRelationshipField();
-        Object targetDataObj = PropertyUtils
-            .getProperty(relationshipContainer.getDataLinksContainer().getData(), relationshipField.getName());
+        Object targetDataObj = getRelationshipValue(relationshipContainer);
 
         gen.writeStartArray();
         if (targetDataObj != null) {
@@ -119,9 +111,7 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
     private void writeToOneLinkage(RelationshipContainer relationshipContainer, JsonGenerator gen,
                                    Class<?> relationshipClass, RegistryEntry relationshipEntry)
         throws IOException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
-        ResourceField relationshipField = relationshipContainer.getRelationshipField();
-        Object targetDataObj = PropertyUtils
-            .getProperty(relationshipContainer.getDataLinksContainer().getData(), relationshipField.getName());
+        Object targetDataObj = getRelationshipValue(relationshipContainer);
         if (targetDataObj == null) {
             gen.writeObject(null);
         } else {
@@ -129,6 +119,34 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
         }
     }
 
+    private String getResourceUrl(DataLinksContainer dataLinksContainer) {
+        if (dataLinksContainer.getResourceUrl() != null) {
+            return dataLinksContainer.getResourceUrl();
+        }
+        Object data = dataLinksContainer.getData();
+        Class<?> sourceClass = data.getClass();
+        RegistryEntry entry = resourceRegistry.getEntry(sourceClass);
+        return resourceRegistry.getResourceUrl(sourceClass) + "/"
+            + IdWriter.formatId(entry.getResourceInformation().getAccessor(), data);
+    }
+
+    /**
+     * Reads the value through the accessor of the resource which has been serialized by {@link ContainerSerializer}.
+     * The resource is looked up in the registry only for containers created without it.
+     */
+    private Object getRelationshipValue(RelationshipContainer relationshipContainer) {
+        DataLinksContainer dataLinksContainer = relationshipContainer.getDataLinksContainer();
+        Object data = dataLinksContainer.getData();
+        ResourceInformation resourceInformation = dataLinksContainer.getResourceInformation();
+        int fieldIndex = relationshipContainer.getRelationshipIndex();
+        if (resourceInformation == null || fieldIndex < 0) {
+            resourceInformation = resourceRegistry.getEntry(data.getClass()).getResourceInformation();
+            fieldIndex = resourceInformation
+                .findRelationshipFieldIndex(relationshipContainer.getRelationshipField().getName());
+        }
+        return resourceInformation.getAccessor().getRelationship(data, fieldIndex);
+    }
+
     public Class<RelationshipContainer> handledType() {
         return RelationshipContainer.class;
     }
@@ -6,9 +6,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.queryParams.include.Inclusion;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -116,4 +120,34 @@ public class RequestParams {
         this.includedRelations = Collections.unmodifiableList(inclusions);
     }
 
+    /**
+     * Two instances are equal if they would select the same data. The order of sorting keys and grouping matters,
+     * the order of included fields and included relations doesn't.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RequestParams that = (RequestParams) o;
+        return Objects.equals(filters, that.filters) &&
+                Objects.equals(sortingEntries(), that.sortingEntries()) &&
+                Objects.equals(grouping, that.grouping) &&
+                Objects.equals(pagination, that.pagination) &&
+                Objects.equals(asSet(includedFields), asSet(that.includedFields)) &&
+                Objects.equals(asSet(includedRelations), asSet(that.includedRelations));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filters, sortingEntries(), grouping, pagination, asSet(includedFields),
+                asSet(includedRelations));
+    }
+
+    private List<Map.Entry<String, SortingValues>> sortingEntries() {
+        return sorting != null ? new ArrayList<>(sorting.entrySet()) : null;
+    }
+
+    private static <T> Set<T> asSet(List<T> list) {
+        return list != null ? new HashSet<>(list) : null;
+    }
 }
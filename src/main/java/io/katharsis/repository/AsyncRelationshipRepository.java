@@ -0,0 +1,42 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An optional interface that can be implemented along with {@link RelationshipRepository} to find related resources
+ * without blocking a thread. If implemented, requests dispatched by
+ * {@link io.katharsis.dispatcher.RequestDispatcher#dispatchRequestAsync} use these methods instead of their blocking
+ * counterparts. The rest of {@link RelationshipRepository} methods is called on the executor of the dispatcher.
+ *
+ * @param <T>    source class type
+ * @param <T_ID> T class id type
+ * @param <D>    target class type
+ * @param <D_ID> D class id type
+ */
+public interface AsyncRelationshipRepository<T, T_ID extends Serializable, D, D_ID extends Serializable> {
+
+    /**
+     * Find a relation's target. It is used only for To-One relationship.
+     *
+     * @param sourceId      an identifier of a source
+     * @param fieldName     name of target's filed
+     * @param requestParams parameters sent along with the request
+     * @return stage completed with a target of a relation
+     * @see RelationshipRepository#findOneTarget(Serializable, String, RequestParams)
+     */
+    CompletionStage<D> findOneTargetAsync(T_ID sourceId, String fieldName, RequestParams requestParams);
+
+    /**
+     * Find a relation's targets. It is used only for To-Many relationship.
+     *
+     * @param sourceId      an identifier of a source
+     * @param fieldName     name of target's filed
+     * @param requestParams parameters sent along with the request
+     * @return stage completed with targets of a relation
+     * @see RelationshipRepository#findManyTargets(Serializable, String, RequestParams)
+     */
+    CompletionStage<Iterable<D>> findManyTargetsAsync(T_ID sourceId, String fieldName, RequestParams requestParams);
+}
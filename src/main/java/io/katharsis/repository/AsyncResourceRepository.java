@@ -0,0 +1,47 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An optional interface that can be implemented along with {@link ResourceRepository} to find resources without
+ * blocking a thread. If implemented, requests dispatched by
+ * {@link io.katharsis.dispatcher.RequestDispatcher#dispatchRequestAsync} use these methods instead of their blocking
+ * counterparts. The rest of {@link ResourceRepository} methods is called on the executor of the dispatcher.
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public interface AsyncResourceRepository<T, ID extends Serializable> {
+
+    /**
+     * Search one resource with a given ID.
+     *
+     * @param id            an identifier of the resource
+     * @param requestParams parameters sent along with the request
+     * @return stage completed with an instance of the resource
+     * @see ResourceRepository#findOne(Serializable, RequestParams)
+     */
+    CompletionStage<T> findOneAsync(ID id, RequestParams requestParams);
+
+    /**
+     * Search for all of the resources.
+     *
+     * @param requestParams parameters send with the request
+     * @return stage completed with a list of found resources
+     * @see ResourceRepository#findAll(RequestParams)
+     */
+    CompletionStage<Iterable<T>> findAllAsync(RequestParams requestParams);
+
+    /**
+     * Search for resources constrained by a list of identifiers.
+     *
+     * @param ids           an {@link Iterable} of passed resource identifiers
+     * @param requestParams parameters send with the request
+     * @return stage completed with a list of found resources
+     * @see ResourceRepository#findAll(Iterable, RequestParams)
+     */
+    CompletionStage<Iterable<T>> findAllAsync(Iterable<ID> ids, RequestParams requestParams);
+}
@@ -0,0 +1,13 @@
+package io.katharsis.repository;
+
+/**
+ * An optional marker interface that can be implemented along with {@link ResourceRepository} to declare that
+ * {@link ResourceRepository#save(Object)} returns the complete persisted resource, including generated values and
+ * relationships. If implemented, the saved resource is returned in a response directly and is not fetched again using
+ * {@link ResourceRepository#findOne(java.io.Serializable, io.katharsis.queryParams.RequestParams)}.
+ * <p>
+ * A resource is still fetched again if its relationships were modified using {@link RelationshipRepository} after the
+ * resource had been saved.
+ */
+public interface FullStateSaveRepository {
+}
@@ -0,0 +1,33 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * An optional interface that can be implemented along with {@link ResourceRepository} to update a resource with only
+ * the values sent in a PATCH request. If implemented, the resource is not fetched before and after the update and
+ * {@link ResourceRepository#save(Object)} and {@link RelationshipRepository} are not used for the update.
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public interface PartialUpdateRepository<T, ID extends Serializable> {
+
+    /**
+     * Updates a resource with the provided values. Values not passed in the maps must be left unchanged. The resource
+     * is not fetched beforehand, so the maps contain all attributes and relationships present in the request, including
+     * those whose values are equal to the current ones.
+     *
+     * @param id            an identifier of the resource
+     * @param attributes    names of attributes present in the request mapped to their values
+     * @param relationships names of relationships present in the request mapped to identifiers of related resources.
+     *                      An identifier is a {@link Serializable} for a single relationship or an {@link Iterable}
+     *                      of {@link Serializable} for a multiple relationship. For a cleared single relationship
+     *                      the value is <i>null</i>.
+     * @param requestParams parameters sent along with the request
+     * @return updated resource including its relationships
+     */
+    T update(ID id, Map<String, Object> attributes, Map<String, Object> relationships, RequestParams requestParams);
+}
@@ -0,0 +1,13 @@
+package io.katharsis.repository;
+
+/**
+ * An optional marker interface that can be implemented along with {@link ResourceRepository} to declare that
+ * relationships of a resource passed to {@link ResourceRepository#save(Object)} don't have to be fully loaded. If
+ * implemented, relationships of a new resource are set to references, that is instances of the related resource
+ * classes with only the id field set, and related resources are not fetched using their repositories.
+ * <p>
+ * A to-many relationship declared as a {@link java.util.SortedSet} is filled with references too, so the natural
+ * ordering of the related resource must be based on the id field only.
+ */
+public interface RelationshipReferencesRepository {
+}
@@ -1,22 +1,20 @@
 package io.katharsis.request.path;
 
-import io.katharsis.resource.exception.ResourceException;
-import io.katharsis.resource.exception.ResourceFieldNotFoundException;
-import io.katharsis.resource.exception.ResourceNotFoundException;
-import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 
 import java.util.*;
 
 /**
- * Builder responsible for parsing URL path.
+ * Builder responsible for parsing URL path. Paths are parsed by a {@link PathRouter} compiled from the current state of
+ * the registry.
  */
 public class PathBuilder {
     public static final String SEPARATOR = "/";
     public static final String RELATIONSHIP_MARK = "relationships";
 
     private final ResourceRegistry resourceRegistry;
+    private volatile PathRouter router;
 
     public PathBuilder(ResourceRegistry resourceRegistry) {
         this.resourceRegistry = resourceRegistry;
@@ -30,90 +28,17 @@ public class PathBuilder {
      * @return doubly-linked list which represents path given at the input
      */
     public JsonPath buildPath(String path) {
-        String[] strings = splitPath(path);
-        if (strings.length == 0 || (strings.length == 1 && "".equals(strings[0]))) {
-            throw new ResourceException("Path is empty");
-        }
-
-        JsonPath previousJsonPath = null, currentJsonPath = null;
-        PathIds pathIds;
-        boolean relationshipMark;
-        String elementName;
-
-        for (int currentElementIdx = 0; currentElementIdx < strings.length; ) {
-            elementName = null;
-            pathIds = null;
-            relationshipMark = false;
-
-            if (RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
-                relationshipMark = true;
-                currentElementIdx++;
-            }
-
-            if (currentElementIdx < strings.length && !RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
-                elementName = strings[currentElementIdx];
-                currentElementIdx++;
-            }
-
-            if (currentElementIdx < strings.length && !RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
-                pathIds = createPathIds(strings[currentElementIdx]);
-                currentElementIdx++;
-            }
-            RegistryEntry entry = resourceRegistry.getEntry(elementName);
-            if (previousJsonPath != null) {
-                currentJsonPath = getNonResourcePath(previousJsonPath, elementName, relationshipMark);
-                if (pathIds != null) {
-                    throw new ResourceException("RelationshipsPath and FieldPath cannot contain ids");
-                }
-            } else if (entry != null && !relationshipMark) {
-                currentJsonPath = new ResourcePath(elementName);
-            } else {
-                throw new ResourceNotFoundException(path);
-            }
-
-            if (pathIds != null) {
-                currentJsonPath.setIds(pathIds);
-            }
-            if (previousJsonPath != null) {
-                previousJsonPath.setChildResource(currentJsonPath);
-                currentJsonPath.setParentResource(previousJsonPath);
-            }
-            previousJsonPath = currentJsonPath;
-        }
-
-        return currentJsonPath;
-    }
-
-    private JsonPath getNonResourcePath(JsonPath previousJsonPath, String elementName, boolean relationshipMark) {
-        String previousElementName = previousJsonPath.getElementName();
-        RegistryEntry previousEntry = resourceRegistry.getEntry(previousElementName);
-        Set<ResourceField> resourceFields = previousEntry.getResourceInformation().getRelationshipFields();
-        for (ResourceField field : resourceFields) {
-            if (field.getName().equals(elementName)) {
-                if (relationshipMark) {
-                    return new RelationshipsPath(elementName);
-                } else {
-                    return new FieldPath(elementName);
-                }
-            }
-        }
-        //TODO: Throw different exception? element name can be null..
-        throw new ResourceFieldNotFoundException(elementName);
+        return getRouter().route(path);
     }
 
-    private PathIds createPathIds(String idsString) {
-        List<String> pathIds = Arrays.asList(idsString.split(PathIds.ID_SEPERATOR));
-        return new PathIds(pathIds);
-    }
-
-    private String[] splitPath(String path) {
-        if (path.startsWith(SEPARATOR)) {
-            path = path.substring(1);
-        }
-        if (path.endsWith(SEPARATOR)) {
-            path = path.substring(0, path.length());
+    private PathRouter getRouter() {
+        Map<String, RegistryEntry> entriesByType = resourceRegistry.getEntriesByType();
+        PathRouter currentRouter = router;
+        if (currentRouter == null || !currentRouter.isCompiledFrom(entriesByType)) {
+            currentRouter = new PathRouter(entriesByType);
+            router = currentRouter;
         }
-        return path.split(SEPARATOR);
+        return currentRouter;
     }
 
     /**
@@ -0,0 +1,255 @@
+package io.katharsis.request.path;
+
+import io.katharsis.resource.exception.ResourceException;
+import io.katharsis.resource.exception.ResourceFieldNotFoundException;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.registry.RegistryEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses URL paths using resource types and relationship names of registered resources compiled into tries. Segments
+ * of a path are matched in place, so apart from ids no part of the path is copied. A router is compiled for a single
+ * state of {@link io.katharsis.resource.registry.ResourceRegistry} and has to be compiled again if the registry
+ * changes.
+ */
+final class PathRouter {
+
+    private static final char SEPARATOR = '/';
+    private static final char ID_SEPARATOR = ',';
+
+    private final Map<String, RegistryEntry> entriesByType;
+    private final Trie<ResourceRoute> resources = new Trie<>();
+    private final Map<String, ResourceRoute> resourcesByType = new HashMap<>();
+
+    PathRouter(Map<String, RegistryEntry> entriesByType) {
+        this.entriesByType = entriesByType;
+        for (Map.Entry<String, RegistryEntry> entry : entriesByType.entrySet()) {
+            ResourceRoute route = new ResourceRoute(entry.getKey(), entry.getValue().getResourceInformation());
+            resources.put(route.type, route);
+            resourcesByType.put(route.type, route);
+        }
+    }
+
+    /**
+     * @param entriesByType registered entries by their resource types
+     * @return <i>true</i> if the router has been compiled from the entries
+     */
+    boolean isCompiledFrom(Map<String, RegistryEntry> entriesByType) {
+        return this.entriesByType == entriesByType;
+    }
+
+    /**
+     * Parses a path. A leading slash and trailing slashes are ignored.
+     *
+     * @param path path to be parsed
+     * @return last element of a doubly-linked list which represents the path
+     */
+    JsonPath route(CharSequence path) {
+        int start = path.length() > 0 && path.charAt(0) == SEPARATOR ? 1 : 0;
+        int end = path.length();
+        while (end > start && path.charAt(end - 1) == SEPARATOR) {
+            end--;
+        }
+        if (start == end) {
+            throw new ResourceException("Path is empty");
+        }
+
+        JsonPath previousJsonPath = null, currentJsonPath = null;
+        int position = start;
+        while (position <= end) {
+            boolean relationshipMark = false;
+            int nameStart = -1, nameEnd = -1, idsStart = -1, idsEnd = -1;
+
+            int segmentEnd = findSegmentEnd(path, position, end);
+            if (isRelationshipMark(path, position, segmentEnd)) {
+                relationshipMark = true;
+                position = segmentEnd + 1;
+            }
+            if (position <= end) {
+                segmentEnd = findSegmentEnd(path, position, end);
+                if (!isRelationshipMark(path, position, segmentEnd)) {
+                    nameStart = position;
+                    nameEnd = segmentEnd;
+                    position = segmentEnd + 1;
+                }
+            }
+            if (position <= end) {
+                segmentEnd = findSegmentEnd(path, position, end);
+                if (!isRelationshipMark(path, position, segmentEnd)) {
+                    idsStart = position;
+                    idsEnd = segmentEnd;
+                    position = segmentEnd + 1;
+                }
+            }
+
+            if (previousJsonPath != null) {
+                currentJsonPath = getNonResourcePath(previousJsonPath, path, nameStart, nameEnd, relationshipMark);
+                if (idsStart != -1) {
+                    throw new ResourceException("RelationshipsPath and FieldPath cannot contain ids");
+                }
+            } else {
+                ResourceRoute route = nameStart != -1 ? resources.find(path, nameStart, nameEnd) : null;
+                if (route == null || relationshipMark) {
+                    throw new ResourceNotFoundException(path.toString());
+                }
+                currentJsonPath = new ResourcePath(route.type);
+            }
+
+            if (idsStart != -1) {
+                currentJsonPath.setIds(createPathIds(path, idsStart, idsEnd));
+            }
+            if (previousJsonPath != null) {
+                previousJsonPath.setChildResource(currentJsonPath);
+                currentJsonPath.setParentResource(previousJsonPath);
+            }
+            previousJsonPath = currentJsonPath;
+        }
+
+        return currentJsonPath;
+    }
+
+    private JsonPath getNonResourcePath(JsonPath previousJsonPath, CharSequence path, int nameStart, int nameEnd,
+                                        boolean relationshipMark) {
+        ResourceRoute previousRoute = resourcesByType.get(previousJsonPath.getElementName());
+        String elementName = null;
+        if (previousRoute != null && nameStart != -1) {
+            elementName = previousRoute.relationships.find(path, nameStart, nameEnd);
+        }
+        if (elementName == null) {
+            throw new ResourceFieldNotFoundException(nameStart != -1 ? path.subSequence(nameStart, nameEnd).toString()
+                : null);
+        }
+        if (relationshipMark) {
+            return new RelationshipsPath(elementName);
+        } else {
+            return new FieldPath(elementName);
+        }
+    }
+
+    private static int findSegmentEnd(CharSequence path, int position, int end) {
+        while (position < end && path.charAt(position) != SEPARATOR) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isRelationshipMark(CharSequence path, int start, int end) {
+        String mark = PathBuilder.RELATIONSHIP_MARK;
+        if (end - start != mark.length()) {
+            return false;
+        }
+        for (int i = 0; i < mark.length(); i++) {
+            if (path.charAt(start + i) != mark.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits ids the same way as {@link String#split(String)} does, so trailing empty ids are removed.
+     */
+    private static PathIds createPathIds(CharSequence path, int start, int end) {
+        List<String> ids = null;
+        int idStart = start;
+        for (int i = start; i < end; i++) {
+            if (path.charAt(i) == ID_SEPARATOR) {
+                if (ids == null) {
+                    ids = new ArrayList<>();
+                }
+                ids.add(path.subSequence(idStart, i).toString());
+                idStart = i + 1;
+            }
+        }
+        if (ids == null) {
+            return new PathIds(path.subSequence(start, end).toString());
+        }
+        ids.add(path.subSequence(idStart, end).toString());
+        int size = ids.size();
+        while (size > 0 && ids.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return new PathIds(ids.subList(0, size));
+    }
+
+    /**
+     * Resource type and names of relationships of a registered resource.
+     */
+    private static final class ResourceRoute {
+        private final String type;
+        private final Trie<String> relationships = new Trie<>();
+
+        ResourceRoute(String type, ResourceInformation resourceInformation) {
+            this.type = type;
+            if (resourceInformation != null) {
+                for (int i = 0; i < resourceInformation.getRelationshipCount(); i++) {
+                    String name = resourceInformation.getRelationshipField(i).getName();
+                    relationships.put(name, name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Maps names to values. Names are matched against a part of a {@link CharSequence} without copying it.
+     */
+    private static final class Trie<V> {
+        private final Node<V> root = new Node<>();
+
+        void put(String name, V value) {
+            Node<V> node = root;
+            for (int i = 0; i < name.length(); i++) {
+                node = node.getOrAddChild(name.charAt(i));
+            }
+            if (node.value == null) {
+                node.value = value;
+            }
+        }
+
+        V find(CharSequence sequence, int start, int end) {
+            Node<V> node = root;
+            for (int i = start; i < end && node != null; i++) {
+                node = node.getChild(sequence.charAt(i));
+            }
+            return node != null ? node.value : null;
+        }
+    }
+
+    private static final class Node<V> {
+        private char[] keys = new char[0];
+        private Node<V>[] children = newArray(0);
+        private V value;
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] newArray(int length) {
+            return (Node<V>[]) new Node[length];
+        }
+
+        Node<V> getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node<V> getOrAddChild(char key) {
+            Node<V> child = getChild(key);
+            if (child == null) {
+                child = new Node<>();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.katharsis.resource.exception.init;
+
+import io.katharsis.errorhandling.exception.KatharsisInitializationException;
+
+/**
+ * More than one relationship repository is defined for the same pair of source and target resource classes.
+ */
+public final class AmbiguousRelationshipRepositoryException extends KatharsisInitializationException {
+
+    public AmbiguousRelationshipRepositoryException(Class<?> sourceClass, Class<?> targetClass, Class<?> firstRepository,
+                                                    Class<?> secondRepository) {
+        super(String.format("Relationship repositories %s and %s are both defined for classes %s and %s",
+            firstRepository.getCanonicalName(), secondRepository.getCanonicalName(),
+            sourceClass != null ? sourceClass.getCanonicalName() : null, targetClass.getCanonicalName()));
+    }
+}
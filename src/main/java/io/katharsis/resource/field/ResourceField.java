@@ -1,24 +1,43 @@
 package io.katharsis.resource.field;
 
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiIncludeByDefault;
 import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.resource.annotations.JsonApiToOne;
+import io.katharsis.utils.Generics;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 public class ResourceField {
+
+    /**
+     * Flags computed from the field annotations when the field is created.
+     */
+    private static final int ID = 1;
+    private static final int TO_ONE = 1 << 1;
+    private static final int TO_MANY = 1 << 2;
+    private static final int LAZY = 1 << 3;
+    private static final int INCLUDE_BY_DEFAULT = 1 << 4;
+
     private final String name;
     private final Class<?> type;
     private final Type genericType;
-    private List<Annotation> annotations = Collections.emptyList();
+    private final List<Annotation> annotations;
+    private final int flags;
+
+    /**
+     * Class of related resources, resolved from the generic type of a relationship field on first use, so a field
+     * which cannot be resolved fails the requests using it rather than the creation of the registry.
+     */
+    private volatile Class<?> targetClass;
+    private final boolean collection;
 
     public ResourceField(@SuppressWarnings("SameParameterValue") String name, Class<?> type, Type genericType) {
-        this.name = name;
-        this.type = type;
-        this.genericType = genericType;
+        this(name, type, genericType, Collections.emptyList());
     }
 
     public ResourceField(String name, Class<?> type, Type genericType, List<Annotation> annotations) {
@@ -26,6 +45,28 @@ public class ResourceField {
         this.type = type;
         this.genericType = genericType;
         this.annotations = annotations;
+        this.flags = computeFlags(annotations);
+        this.collection = type != null && Iterable.class.isAssignableFrom(type);
+    }
+
+    private static int computeFlags(List<Annotation> annotations) {
+        int flags = 0;
+        for (Annotation annotation : annotations) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (annotationType.equals(JsonApiId.class)) {
+                flags |= ID;
+            } else if (annotationType.equals(JsonApiToOne.class)) {
+                flags |= TO_ONE;
+            } else if (annotationType.equals(JsonApiToMany.class)) {
+                flags |= TO_MANY;
+                if (((JsonApiToMany) annotation).lazy()) {
+                    flags |= LAZY;
+                }
+            } else if (annotationType.equals(JsonApiIncludeByDefault.class)) {
+                flags |= INCLUDE_BY_DEFAULT;
+            }
+        }
+        return flags;
     }
 
     public String getName() {
@@ -45,22 +86,76 @@ public class ResourceField {
     }
 
     public boolean isAnnotationPresent(Class<?> annotationClass) {
-        return annotations.stream()
-            .filter(annotation -> annotation.annotationType().equals(annotationClass))
-            .findAny()
-            .isPresent();
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().equals(annotationClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return <i>true</i> if the field is annotated with {@link JsonApiId}
+     */
+    public boolean isId() {
+        return (flags & ID) != 0;
     }
 
+    /**
+     * @return <i>true</i> if the field is annotated with {@link JsonApiToOne}
+     */
+    public boolean isToOne() {
+        return (flags & TO_ONE) != 0;
+    }
+
+    /**
+     * @return <i>true</i> if the field is annotated with {@link JsonApiToMany}
+     */
+    public boolean isToMany() {
+        return (flags & TO_MANY) != 0;
+    }
+
+    /**
+     * @return <i>true</i> if the field is annotated with {@link JsonApiToOne} or {@link JsonApiToMany}
+     */
+    public boolean isRelationship() {
+        return (flags & (TO_ONE | TO_MANY)) != 0;
+    }
+
+    /**
+     * @return <i>true</i> if the field is annotated with {@link JsonApiIncludeByDefault}
+     */
+    public boolean isIncludeByDefault() {
+        return (flags & INCLUDE_BY_DEFAULT) != 0;
+    }
+
+    /**
+     * @return <i>true</i> if the field is annotated with lazy {@link JsonApiToMany}
+     */
     public boolean isLazy() {
-        boolean isLazy = false;
-        Optional<JsonApiToMany> toManyOptional = annotations.stream()
-            .filter(annotation -> annotation.annotationType().equals(JsonApiToMany.class))
-            .map(annotation -> (JsonApiToMany) annotation)
-            .findAny();
-        if (toManyOptional.isPresent()) {
-            isLazy = toManyOptional.get().lazy();
+        return (flags & LAZY) != 0;
+    }
+
+    /**
+     * @return <i>true</i> if the field holds an {@link Iterable} of values, e.g. a to-many relationship
+     */
+    public boolean isCollection() {
+        return collection;
+    }
+
+    /**
+     * Returns a class of related resources. For a to-many relationship it is the type argument of the collection.
+     *
+     * @return class of related resources or <i>null</i> if the field is not a relationship
+     * @throws RuntimeException if the type argument of a to-many relationship cannot be resolved
+     */
+    public Class<?> getTargetClass() {
+        Class<?> targetClass = this.targetClass;
+        if (targetClass == null && isRelationship()) {
+            targetClass = Generics.getResourceClass(genericType, type);
+            this.targetClass = targetClass;
         }
-        return isLazy;
+        return targetClass;
     }
 
     @Override
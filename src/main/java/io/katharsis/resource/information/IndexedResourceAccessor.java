@@ -0,0 +1,121 @@
+package io.katharsis.resource.information;
+
+import io.katharsis.resource.field.ResourceField;
+import io.katharsis.utils.PropertyAccessor;
+import io.katharsis.utils.PropertyUtils;
+
+/**
+ * {@link ResourceAccessor} implementation which keeps a pre-linked {@link PropertyAccessor} for each field of a
+ * resource in an array ordered the same way as fields in {@link ResourceInformation}. A field which cannot be
+ * accessed is reported when its value is read or written, in the same way as by {@link PropertyUtils}.
+ */
+final class IndexedResourceAccessor implements ResourceAccessor {
+
+    private final FieldAccessor idAccessor;
+    private final FieldAccessor[] attributeAccessors;
+    private final FieldAccessor[] relationshipAccessors;
+
+    IndexedResourceAccessor(Class<?> resourceClass, ResourceField idField, ResourceField[] attributeFields,
+                            ResourceField[] relationshipFields) {
+        idAccessor = idField != null ? new FieldAccessor(resourceClass, idField.getName()) : null;
+        attributeAccessors = createAccessors(resourceClass, attributeFields);
+        relationshipAccessors = createAccessors(resourceClass, relationshipFields);
+    }
+
+    private static FieldAccessor[] createAccessors(Class<?> resourceClass, ResourceField[] fields) {
+        FieldAccessor[] accessors = new FieldAccessor[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            accessors[i] = new FieldAccessor(resourceClass, fields[i].getName());
+        }
+        return accessors;
+    }
+
+    @Override
+    public Object getId(Object resource) {
+        if (idAccessor == null) {
+            throw new IllegalStateException("No id field defined for " + resource.getClass().getCanonicalName());
+        }
+        return idAccessor.get(resource);
+    }
+
+    @Override
+    public void setId(Object resource, Object id) {
+        if (idAccessor == null) {
+            throw new IllegalStateException("No id field defined for " + resource.getClass().getCanonicalName());
+        }
+        idAccessor.set(resource, id);
+    }
+
+    @Override
+    public boolean isLongId() {
+        return idAccessor != null && idAccessor.isLongValue();
+    }
+
+    @Override
+    public long getLongId(Object resource) {
+        if (!isLongId()) {
+            throw new IllegalStateException("Id field of " + resource.getClass().getCanonicalName()
+                + " is not a primitive integral value");
+        }
+        return idAccessor.getLong(resource);
+    }
+
+    @Override
+    public Object getAttribute(Object resource, int index) {
+        return attributeAccessors[index].get(resource);
+    }
+
+    @Override
+    public void setAttribute(Object resource, int index, Object value) {
+        attributeAccessors[index].set(resource, value);
+    }
+
+    @Override
+    public Object getRelationship(Object resource, int index) {
+        return relationshipAccessors[index].get(resource);
+    }
+
+    @Override
+    public void setRelationship(Object resource, int index, Object value) {
+        relationshipAccessors[index].set(resource, value);
+    }
+
+    private static final class FieldAccessor {
+        private final PropertyAccessor propertyAccessor;
+        private final RuntimeException resolutionException;
+
+        FieldAccessor(Class<?> resourceClass, String fieldName) {
+            PropertyAccessor foundAccessor = null;
+            RuntimeException foundException = null;
+            try {
+                foundAccessor = PropertyUtils.getPropertyAccessor(resourceClass, fieldName);
+            } catch (RuntimeException e) {
+                foundException = e;
+            }
+            propertyAccessor = foundAccessor;
+            resolutionException = foundException;
+        }
+
+        Object get(Object resource) {
+            if (propertyAccessor == null) {
+                throw new RuntimeException(resolutionException.getMessage(), resolutionException);
+            }
+            return propertyAccessor.get(resource);
+        }
+
+        boolean isLongValue() {
+            return propertyAccessor != null && propertyAccessor.isLongValue();
+        }
+
+        long getLong(Object resource) {
+            return propertyAccessor.getLong(resource);
+        }
+
+        void set(Object resource, Object value) {
+            if (propertyAccessor == null) {
+                throw new RuntimeException(resolutionException.getMessage(), resolutionException);
+            }
+            propertyAccessor.set(resource, value);
+        }
+    }
+}
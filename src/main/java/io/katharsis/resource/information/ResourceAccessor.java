@@ -0,0 +1,78 @@
+package io.katharsis.resource.information;
+
+/**
+ * Provides access to the id, attributes and relationships of a resource. Attributes and relationships are addressed
+ * by their index in {@link ResourceInformation}, so an access doesn't involve any lookup by name. An instance is
+ * created for each resource class when its {@link ResourceInformation} is built.
+ */
+public interface ResourceAccessor {
+
+    /**
+     * Returns a value of the id field of a resource.
+     *
+     * @param resource resource to be accessed
+     * @return value of resource's id
+     */
+    Object getId(Object resource);
+
+    /**
+     * Sets a value of the id field of a resource.
+     *
+     * @param resource resource to be modified
+     * @param id       new value of resource's id
+     */
+    void setId(Object resource, Object id);
+
+    /**
+     * Checks if the id field of resources has a primitive integral type, so it can be read without boxing using
+     * {@link #getLongId(Object)}.
+     *
+     * @return <i>true</i> if the id is a primitive integral value
+     */
+    boolean isLongId();
+
+    /**
+     * Returns a value of a primitive integral id field of a resource without boxing it.
+     *
+     * @param resource resource to be accessed
+     * @return value of resource's id
+     * @throws IllegalStateException if the id is not a primitive integral value
+     */
+    long getLongId(Object resource);
+
+    /**
+     * Returns a value of an attribute of a resource.
+     *
+     * @param resource resource to be accessed
+     * @param index    index of the attribute, see {@link ResourceInformation#getAttributeField(int)}
+     * @return value of the attribute
+     */
+    Object getAttribute(Object resource, int index);
+
+    /**
+     * Sets a value of an attribute of a resource.
+     *
+     * @param resource resource to be modified
+     * @param index    index of the attribute, see {@link ResourceInformation#getAttributeField(int)}
+     * @param value    new value of the attribute
+     */
+    void setAttribute(Object resource, int index, Object value);
+
+    /**
+     * Returns a value of a relationship of a resource, that is a single resource or an {@link Iterable} of resources.
+     *
+     * @param resource resource to be accessed
+     * @param index    index of the relationship, see {@link ResourceInformation#getRelationshipField(int)}
+     * @return value of the relationship
+     */
+    Object getRelationship(Object resource, int index);
+
+    /**
+     * Sets a value of a relationship of a resource.
+     *
+     * @param resource resource to be modified
+     * @param index    index of the relationship, see {@link ResourceInformation#getRelationshipField(int)}
+     * @param value    new value of the relationship
+     */
+    void setRelationship(Object resource, int index, Object value);
+}
@@ -2,6 +2,11 @@ package io.katharsis.resource.information;
 
 import io.katharsis.resource.field.ResourceField;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -26,12 +31,68 @@ public final class ResourceInformation {
      */
     private final Set<ResourceField> relationshipFields;
 
+    /**
+     * Attribute and relationship fields ordered by their index used by {@link ResourceAccessor}.
+     */
+    private final ResourceField[] indexedAttributeFields;
+    private final ResourceField[] indexedRelationshipFields;
+
+    /**
+     * Names of attribute and relationship fields mapped to their indexes.
+     */
+    private final Map<String, Integer> attributeFieldIndexes;
+    private final Map<String, Integer> relationshipFieldIndexes;
+
+    /**
+     * Indexes of relationship fields marked by JsonApiIncludeByDefault annotation.
+     */
+    private final int[] includedByDefaultRelationshipIndexes;
+
+    private final ResourceAccessor accessor;
+
     public ResourceInformation(Class<?> resourceClass, ResourceField idField, Set<ResourceField> attributeFields,
         Set<ResourceField> relationshipFields) {
         this.resourceClass = resourceClass;
         this.idField = idField;
-        this.attributeFields = attributeFields;
-        this.relationshipFields = relationshipFields;
+        this.attributeFields = unmodifiableCopy(attributeFields);
+        this.relationshipFields = unmodifiableCopy(relationshipFields);
+        this.indexedAttributeFields = toArray(this.attributeFields);
+        this.indexedRelationshipFields = toArray(this.relationshipFields);
+        this.attributeFieldIndexes = indexByName(indexedAttributeFields);
+        this.relationshipFieldIndexes = indexByName(indexedRelationshipFields);
+        this.includedByDefaultRelationshipIndexes = findIncludedByDefault(indexedRelationshipFields);
+        this.accessor = new IndexedResourceAccessor(resourceClass, idField, indexedAttributeFields,
+            indexedRelationshipFields);
+    }
+
+    /**
+     * Fields are copied, so the sets stay consistent with the indexes used by {@link ResourceAccessor}.
+     */
+    private static Set<ResourceField> unmodifiableCopy(Set<ResourceField> fields) {
+        return fields != null ? Collections.unmodifiableSet(new LinkedHashSet<>(fields)) : null;
+    }
+
+    private static ResourceField[] toArray(Set<ResourceField> fields) {
+        return fields != null ? fields.toArray(new ResourceField[fields.size()]) : new ResourceField[0];
+    }
+
+    private static Map<String, Integer> indexByName(ResourceField[] fields) {
+        Map<String, Integer> indexes = new HashMap<>(fields.length * 2);
+        for (int i = 0; i < fields.length; i++) {
+            indexes.putIfAbsent(fields[i].getName(), i);
+        }
+        return indexes;
+    }
+
+    private static int[] findIncludedByDefault(ResourceField[] fields) {
+        int[] indexes = new int[fields.length];
+        int count = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].isIncludeByDefault()) {
+                indexes[count++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, count);
     }
 
     public Class<?> getResourceClass() {
@@ -42,31 +103,97 @@ public final class ResourceInformation {
         return idField;
     }
 
+    /**
+     * @return unmodifiable set of attribute fields
+     */
     public Set<ResourceField> getAttributeFields() {
         return attributeFields;
     }
 
+    /**
+     * @return unmodifiable set of relationship fields
+     */
     public Set<ResourceField> getRelationshipFields() {
         return relationshipFields;
     }
 
+    /**
+     * Returns an accessor which can be used to read and write fields of instances of the resource.
+     *
+     * @return resource accessor
+     */
+    public ResourceAccessor getAccessor() {
+        return accessor;
+    }
+
+    public int getAttributeCount() {
+        return indexedAttributeFields.length;
+    }
+
+    public ResourceField getAttributeField(int index) {
+        return indexedAttributeFields[index];
+    }
+
+    public int getRelationshipCount() {
+        return indexedRelationshipFields.length;
+    }
+
+    public ResourceField getRelationshipField(int index) {
+        return indexedRelationshipFields[index];
+    }
+
+    /**
+     * Returns a number of relationship fields which should always be included in a response.
+     *
+     * @return number of relationships included by default
+     */
+    public int getIncludedByDefaultRelationshipCount() {
+        return includedByDefaultRelationshipIndexes.length;
+    }
+
+    /**
+     * Returns an index of a relationship field included by default, as used by {@link ResourceAccessor}.
+     *
+     * @param position position of the field among relationships included by default
+     * @return index of the relationship field
+     */
+    public int getIncludedByDefaultRelationshipIndex(int position) {
+        return includedByDefaultRelationshipIndexes[position];
+    }
+
     public ResourceField findAttributeFieldByName(String name) {
-        return getField(name, attributeFields);
+        int index = findAttributeFieldIndex(name);
+        return index != -1 ? indexedAttributeFields[index] : null;
     }
 
     public ResourceField findRelationshipFieldByName(String name) {
-        return getField(name, relationshipFields);
+        int index = findRelationshipFieldIndex(name);
+        return index != -1 ? indexedRelationshipFields[index] : null;
     }
 
-    private ResourceField getField(String name, Set<ResourceField> fields) {
-        ResourceField foundField = null;
-        for (ResourceField field : fields) {
-            if (field.getName().equals(name)) {
-                foundField = field;
-                break;
-            }
-        }
-        return foundField;
+    /**
+     * Returns an index of an attribute field.
+     *
+     * @param name name of the field
+     * @return index of the field or -1 if there's no such attribute
+     */
+    public int findAttributeFieldIndex(String name) {
+        return getFieldIndex(name, attributeFieldIndexes);
+    }
+
+    /**
+     * Returns an index of a relationship field.
+     *
+     * @param name name of the field
+     * @return index of the field or -1 if there's no such relationship
+     */
+    public int findRelationshipFieldIndex(String name) {
+        return getFieldIndex(name, relationshipFieldIndexes);
+    }
+
+    private int getFieldIndex(String name, Map<String, Integer> fieldIndexes) {
+        Integer index = fieldIndexes.get(name);
+        return index != null ? index : -1;
     }
 
     @Override
@@ -1,13 +1,11 @@
 package io.katharsis.resource.information;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import io.katharsis.resource.annotations.JsonApiId;
-import io.katharsis.resource.annotations.JsonApiToMany;
-import io.katharsis.resource.annotations.JsonApiToOne;
 import io.katharsis.resource.exception.init.ResourceDuplicateIdException;
 import io.katharsis.resource.exception.init.ResourceIdNotFoundException;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.utils.ClassModel;
 import io.katharsis.utils.ClassUtils;
 
 import java.lang.annotation.Annotation;
@@ -45,11 +43,10 @@ public final class ResourceInformationBuilder {
     }
 
     private List<ResourceField> getResourceFields(Class<?> resourceClass) {
-        List<Field> classFields = ClassUtils.getClassFields(resourceClass);
-        List<Method> classGetters = ClassUtils.getClassGetters(resourceClass);
+        ClassModel classModel = ClassUtils.getClassModel(resourceClass);
 
-        List<ResourceField> resourceClassFields = getFieldResourceFields(classFields);
-        List<ResourceField> resourceGetterFields = getGetterResourceFields(classGetters);
+        List<ResourceField> resourceClassFields = getFieldResourceFields(classModel.getFields());
+        List<ResourceField> resourceGetterFields = getGetterResourceFields(classModel.getGetters());
         return getResourceFields(resourceClassFields, resourceGetterFields);
     }
 
@@ -94,7 +91,7 @@ public final class ResourceInformationBuilder {
 
     private <T> ResourceField getIdField(Class<T> resourceClass, List<ResourceField> classFields) {
         List<ResourceField> idFields = classFields.stream()
-            .filter(field -> field.isAnnotationPresent(JsonApiId.class))
+            .filter(ResourceField::isId)
             .collect(Collectors.toList());
 
         if (idFields.size() == 0) {
@@ -113,16 +110,14 @@ public final class ResourceInformationBuilder {
 
     private Set<ResourceField> getBasicFields(List<ResourceField> classFields, ResourceField idField) {
         return classFields.stream()
-            .filter(field -> !field.isAnnotationPresent(JsonApiToMany.class) && !field.isAnnotationPresent
-                (JsonApiToOne.class)) // get rid of relations
+            .filter(field -> !field.isRelationship()) // get rid of relations
             .filter(field -> !field.equals(idField))
             .collect(Collectors.toSet());
     }
 
     private Set<ResourceField> getRelationshipFields(List<ResourceField> classFields, ResourceField idField) {
         return classFields.stream()
-            .filter(field -> field.isAnnotationPresent(JsonApiToMany.class)
-                || field.isAnnotationPresent(JsonApiToOne.class)) // get only relations
+            .filter(ResourceField::isRelationship) // get only relations
             .filter(field -> !field.equals(idField))
             .collect(Collectors.toSet());
     }
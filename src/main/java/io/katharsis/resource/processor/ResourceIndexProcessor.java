@@ -0,0 +1,136 @@
+package io.katharsis.resource.processor;
+
+import io.katharsis.errorhandling.mapper.ExceptionMapperProvider;
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.registry.ResourceIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * Optional annotation processor which generates a {@link ResourceIndex} of resources, repositories and exception
+ * mappers found among compiled classes. The index is written to {@link ResourceIndex#LOCATION} and allows
+ * {@link io.katharsis.resource.registry.ResourceRegistryBuilder} and
+ * {@link io.katharsis.errorhandling.mapper.ExceptionMapperRegistryBuilder} to skip classpath scanning at startup.
+ * <p>
+ * The processor is not registered as a service, so it has to be enabled explicitly, e.g. by passing
+ * <i>-processor io.katharsis.resource.processor.ResourceIndexProcessor</i> to the compiler. All resources and
+ * repositories of a package have to be compiled in the same compilation, otherwise the index is incomplete. The
+ * index records the compiled packages and is used only for them, other packages are still scanned.
+ */
+@SupportedAnnotationTypes("*")
+public class ResourceIndexProcessor extends AbstractProcessor {
+
+    private final ResourceIndex resourceIndex = new ResourceIndex();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(typeElement);
+                if (!packageElement.isUnnamed()) {
+                    resourceIndex.addPackage(packageElement.getQualifiedName().toString());
+                }
+                processType(typeElement);
+            }
+        }
+        return false;
+    }
+
+    private void processType(TypeElement typeElement) {
+        String className = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+        if (typeElement.getAnnotation(JsonApiResource.class) != null) {
+            resourceIndex.addResource(className);
+        }
+        if (typeElement.getAnnotation(ExceptionMapperProvider.class) != null) {
+            resourceIndex.addExceptionMapper(className);
+        }
+
+        String resourceClassName = findFirstTypeArgument(typeElement.asType(), ResourceRepository.class);
+        if (resourceClassName != null) {
+            resourceIndex.addResourceRepository(className, resourceClassName);
+        }
+        String sourceClassName = findFirstTypeArgument(typeElement.asType(), RelationshipRepository.class);
+        if (sourceClassName != null) {
+            resourceIndex.addRelationshipRepository(className, sourceClassName);
+        }
+
+        for (TypeElement nestedElement : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+            processType(nestedElement);
+        }
+    }
+
+    /**
+     * Walks the type hierarchy to find the first type argument of the provided interface, with type variables
+     * substituted along the way.
+     *
+     * @param type            type to be checked
+     * @param repositoryClass searched interface
+     * @return binary name of the type argument or <i>null</i> if the type does not implement the interface or the
+     * argument is not a concrete class
+     */
+    private String findFirstTypeArgument(TypeMirror type, Class<?> repositoryClass) {
+        Types types = processingEnv.getTypeUtils();
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            if (supertype.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            DeclaredType declaredSupertype = (DeclaredType) supertype;
+            Element supertypeElement = declaredSupertype.asElement();
+            if (((TypeElement) supertypeElement).getQualifiedName().contentEquals(repositoryClass.getName())) {
+                if (declaredSupertype.getTypeArguments().isEmpty()) {
+                    return null;
+                }
+                TypeMirror typeArgument = declaredSupertype.getTypeArguments().get(0);
+                if (typeArgument.getKind() != TypeKind.DECLARED) {
+                    return null;
+                }
+                TypeElement argumentElement = (TypeElement) ((DeclaredType) typeArgument).asElement();
+                return processingEnv.getElementUtils().getBinaryName(argumentElement).toString();
+            }
+            String foundClassName = findFirstTypeArgument(supertype, repositoryClass);
+            if (foundClassName != null) {
+                return foundClassName;
+            }
+        }
+        return null;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject indexFile = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", ResourceIndex.LOCATION);
+            try (Writer writer = indexFile.openWriter()) {
+                resourceIndex.write(writer);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager()
+                .printMessage(Diagnostic.Kind.ERROR, "Cannot write resource index: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.katharsis.resource.registry;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Memoized, thread-safe holder of a repository instance. A repository is either provided up front or created by a
+ * factory on the first call to {@link #get()}. If the factory throws an exception, no instance is stored and the
+ * factory is called again on the next access.
+ *
+ * @param <R> repository type
+ */
+public final class LazyRepository<R> implements Supplier<R> {
+
+    private final Class<?> repositoryClass;
+    private final Supplier<? extends R> factory;
+    private volatile R instance;
+
+    private LazyRepository(Class<?> repositoryClass, Supplier<? extends R> factory, R instance) {
+        this.repositoryClass = repositoryClass;
+        this.factory = factory;
+        this.instance = instance;
+    }
+
+    /**
+     * @param instance an already created repository, can be <i>null</i>
+     * @return holder of the instance
+     */
+    public static <R> LazyRepository<R> of(R instance) {
+        return new LazyRepository<>(instance != null ? instance.getClass() : null, null, instance);
+    }
+
+    /**
+     * @param repositoryClass class of the created repository
+     * @param factory         factory called on the first access to create the repository
+     * @return holder which creates the repository on demand
+     */
+    public static <R> LazyRepository<R> of(Class<?> repositoryClass, Supplier<? extends R> factory) {
+        return new LazyRepository<>(repositoryClass, factory, null);
+    }
+
+    @Override
+    public R get() {
+        R result = instance;
+        if (result == null && factory != null) {
+            synchronized (this) {
+                result = instance;
+                if (result == null) {
+                    result = factory.get();
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return class of the repository, available without creating the repository
+     */
+    public Class<?> getRepositoryClass() {
+        return repositoryClass;
+    }
+
+    /**
+     * @return <i>true</i> if the repository has been created
+     */
+    public boolean isInitialized() {
+        return instance != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LazyRepository<?> that = (LazyRepository<?>) o;
+        return Objects.equals(repositoryClass, that.repositoryClass) &&
+            Objects.equals(factory, that.factory) &&
+            (factory != null || Objects.equals(instance, that.instance));
+    }
+
+    @Override
+    public int hashCode() {
+        return factory != null ? Objects.hash(repositoryClass, factory) : Objects.hashCode(instance);
+    }
+}
@@ -3,11 +3,16 @@ package io.katharsis.resource.registry;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.repository.exception.RelationshipRepositoryNotFoundException;
+import io.katharsis.resource.exception.init.AmbiguousRelationshipRepositoryException;
 import io.katharsis.resource.information.ResourceInformation;
 import net.jodah.typetools.TypeResolver;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -22,8 +27,9 @@ import java.util.Objects;
  */
 public class RegistryEntry<T> {
     private final ResourceInformation resourceInformation;
-    private final ResourceRepository<T, ?> resourceRepository;
-    private final List<RelationshipRepository<T, ?, ?, ?>> relationshipRepositories;
+    private final LazyRepository<ResourceRepository<T, ?>> resourceRepository;
+    private final List<LazyRepository<RelationshipRepository<T, ?, ?, ?>>> relationshipRepositories;
+    private final Map<Class<?>, LazyRepository<RelationshipRepository<T, ?, ?, ?>>> relationshipRepositoriesByTarget;
     private RegistryEntry parentRegistryEntry = null;
 
     public RegistryEntry(ResourceInformation resourceInformation,
@@ -34,34 +40,116 @@ public class RegistryEntry<T> {
     public RegistryEntry(ResourceInformation resourceInformation,
                          ResourceRepository<T, ?> resourceRepository,
                          List<RelationshipRepository<T, ?, ?, ?>> relationshipRepositories) {
+        this(resourceInformation, LazyRepository.of(resourceRepository), wrap(relationshipRepositories));
+    }
+
+    private RegistryEntry(ResourceInformation resourceInformation,
+                          LazyRepository<ResourceRepository<T, ?>> resourceRepository,
+                          List<LazyRepository<RelationshipRepository<T, ?, ?, ?>>> relationshipRepositories) {
         this.resourceInformation = resourceInformation;
         this.resourceRepository = resourceRepository;
         this.relationshipRepositories = relationshipRepositories;
+        this.relationshipRepositoriesByTarget = indexByTargetClass(resourceInformation, relationshipRepositories);
     }
 
-    public ResourceRepository<T, ?> getResourceRepository() {
-        return resourceRepository;
+    /**
+     * Creates an entry with repositories which can be created on demand. Classes of the repositories are used to
+     * resolve relationship targets, so no repository is created by this method.
+     *
+     * @param resourceInformation      information about the resource
+     * @param resourceRepository       holder of the resource repository
+     * @param relationshipRepositories holders of the relationship repositories
+     * @param <T>                      resource type
+     * @return an entry of the resource
+     */
+    public static <T> RegistryEntry<T> withLazyRepositories(ResourceInformation resourceInformation,
+                                                            LazyRepository<ResourceRepository<T, ?>> resourceRepository,
+                                                            List<LazyRepository<RelationshipRepository<T, ?, ?, ?>>> relationshipRepositories) {
+        return new RegistryEntry<>(resourceInformation, resourceRepository, relationshipRepositories);
     }
 
-    public List<RelationshipRepository<T, ?, ?, ?>> getRelationshipRepositories() {
-        return relationshipRepositories;
+    private static <T> List<LazyRepository<RelationshipRepository<T, ?, ?, ?>>> wrap(
+        List<RelationshipRepository<T, ?, ?, ?>> relationshipRepositories) {
+        if (relationshipRepositories == null) {
+            return null;
+        }
+        List<LazyRepository<RelationshipRepository<T, ?, ?, ?>>> wrappedRepositories =
+            new ArrayList<>(relationshipRepositories.size());
+        for (RelationshipRepository<T, ?, ?, ?> relationshipRepository : relationshipRepositories) {
+            wrappedRepositories.add(LazyRepository.of(relationshipRepository));
+        }
+        return wrappedRepositories;
     }
 
-    public RelationshipRepository<T, ?, ?, ?> getRelationshipRepositoryForClass(Class clazz) {
-        RelationshipRepository<T, ?, ?, ?> foundRelationshipRepository = null;
-        for (RelationshipRepository<T, ?, ?, ?> relationshipRepository : relationshipRepositories) {
+    /**
+     * Resolves target classes of the relationship repositories once, so a repository can be found without resolving
+     * generic types on each request.
+     *
+     * @throws AmbiguousRelationshipRepositoryException if more than one repository has the same target class
+     */
+    private static <T> Map<Class<?>, LazyRepository<RelationshipRepository<T, ?, ?, ?>>> indexByTargetClass(
+        ResourceInformation resourceInformation,
+        List<LazyRepository<RelationshipRepository<T, ?, ?, ?>>> relationshipRepositories) {
+        if (relationshipRepositories == null || relationshipRepositories.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Class<?>, LazyRepository<RelationshipRepository<T, ?, ?, ?>>> repositoriesByTarget =
+            new HashMap<>(relationshipRepositories.size());
+        for (LazyRepository<RelationshipRepository<T, ?, ?, ?>> relationshipRepository : relationshipRepositories) {
+            if (relationshipRepository.getRepositoryClass() == null) {
+                continue;
+            }
             Class<?>[] typeArgs = TypeResolver
-                    .resolveRawArguments(RelationshipRepository.class, relationshipRepository.getClass());
+                    .resolveRawArguments(RelationshipRepository.class, relationshipRepository.getRepositoryClass());
+            Class<?> targetClass = typeArgs[RelationshipRepository.TARGET_TYPE_GENERIC_PARAMETER_IDX];
+            if (targetClass == TypeResolver.Unknown.class) {
+                continue;
+            }
 
-            if (clazz == typeArgs[RelationshipRepository.TARGET_TYPE_GENERIC_PARAMETER_IDX]) {
-                foundRelationshipRepository = relationshipRepository;
+            LazyRepository<RelationshipRepository<T, ?, ?, ?>> previousRepository =
+                repositoriesByTarget.put(targetClass, relationshipRepository);
+            if (previousRepository != null) {
+                throw new AmbiguousRelationshipRepositoryException(
+                    resourceInformation != null ? resourceInformation.getResourceClass() : null, targetClass,
+                    previousRepository.getRepositoryClass(), relationshipRepository.getRepositoryClass());
             }
         }
+        return repositoriesByTarget;
+    }
+
+    public ResourceRepository<T, ?> getResourceRepository() {
+        return resourceRepository.get();
+    }
+
+    public List<RelationshipRepository<T, ?, ?, ?>> getRelationshipRepositories() {
+        if (relationshipRepositories == null) {
+            return null;
+        }
+        List<RelationshipRepository<T, ?, ?, ?>> repositories = new ArrayList<>(relationshipRepositories.size());
+        for (LazyRepository<RelationshipRepository<T, ?, ?, ?>> relationshipRepository : relationshipRepositories) {
+            repositories.add(relationshipRepository.get());
+        }
+        return repositories;
+    }
+
+    public RelationshipRepository<T, ?, ?, ?> getRelationshipRepositoryForClass(Class clazz) {
+        LazyRepository<RelationshipRepository<T, ?, ?, ?>> foundRelationshipRepository =
+            relationshipRepositoriesByTarget.get(clazz);
         if (foundRelationshipRepository == null) {
             throw new RelationshipRepositoryNotFoundException(resourceInformation.getResourceClass(), clazz);
         }
 
-        return foundRelationshipRepository;
+        return foundRelationshipRepository.get();
+    }
+
+    /**
+     * Creates all repositories of the resource which haven't been created yet.
+     */
+    public void initializeRepositories() {
+        resourceRepository.get();
+        if (relationshipRepositories != null) {
+            relationshipRepositories.forEach(LazyRepository::get);
+        }
     }
 
     public ResourceInformation getResourceInformation() {
@@ -0,0 +1,120 @@
+package io.katharsis.resource.registry;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Timings collected by {@link ResourceRegistryBuilder} while building a {@link ResourceRegistry}. All values are in
+ * nanoseconds. Introspection of resources runs in parallel, so the sum of per-resource times can be greater than the
+ * total introspection time.
+ */
+public final class RegistryStartupReport {
+
+    private static final int REPORTED_RESOURCES = 10;
+
+    private final Map<Class<?>, Long> resourceIntrospectionTimes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Long> resourceInstantiationTimes = new ConcurrentHashMap<>();
+    private long scanTime;
+    private long introspectionTime;
+    private long instantiationTime;
+
+    void setScanTime(long scanTime) {
+        this.scanTime = scanTime;
+    }
+
+    void setIntrospectionTime(long introspectionTime) {
+        this.introspectionTime = introspectionTime;
+    }
+
+    void setInstantiationTime(long instantiationTime) {
+        this.instantiationTime = instantiationTime;
+    }
+
+    void addResourceIntrospectionTime(Class<?> resourceClass, long time) {
+        resourceIntrospectionTimes.put(resourceClass, time);
+    }
+
+    void addResourceInstantiationTime(Class<?> resourceClass, long time) {
+        resourceInstantiationTimes.put(resourceClass, time);
+    }
+
+    /**
+     * @return time of loading or scanning a {@link ResourceIndex}, 0 if an index was passed to the builder
+     */
+    public long getScanTime() {
+        return scanTime;
+    }
+
+    /**
+     * @return time of building information about all resources
+     */
+    public long getIntrospectionTime() {
+        return introspectionTime;
+    }
+
+    /**
+     * @return time of obtaining instances of all repositories and creating registry entries
+     */
+    public long getInstantiationTime() {
+        return instantiationTime;
+    }
+
+    /**
+     * @return resource classes mapped to times of building their information
+     */
+    public Map<Class<?>, Long> getResourceIntrospectionTimes() {
+        return Collections.unmodifiableMap(resourceIntrospectionTimes);
+    }
+
+    /**
+     * @return resource classes mapped to times of obtaining instances of their repositories
+     */
+    public Map<Class<?>, Long> getResourceInstantiationTimes() {
+        return Collections.unmodifiableMap(resourceInstantiationTimes);
+    }
+
+    /**
+     * @return total time spent on a resource
+     */
+    public long getResourceTime(Class<?> resourceClass) {
+        return resourceIntrospectionTimes.getOrDefault(resourceClass, 0L)
+            + resourceInstantiationTimes.getOrDefault(resourceClass, 0L);
+    }
+
+    /**
+     * @param limit maximum number of returned resources
+     * @return resource classes with the greatest total time, the slowest first
+     */
+    public List<Class<?>> getSlowestResources(int limit) {
+        return resourceIntrospectionTimes.keySet().stream()
+            .sorted(Comparator.comparingLong(this::getResourceTime).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+            .append("ResourceRegistry built in ").append(toMillis(scanTime + introspectionTime + instantiationTime))
+            .append(" ms: scan ").append(toMillis(scanTime))
+            .append(" ms, introspection ").append(toMillis(introspectionTime))
+            .append(" ms, repository instantiation ").append(toMillis(instantiationTime))
+            .append(" ms, ").append(resourceIntrospectionTimes.size()).append(" resources");
+        for (Class<?> resourceClass : getSlowestResources(REPORTED_RESOURCES)) {
+            builder.append("\n  ").append(resourceClass.getName())
+                .append(": introspection ").append(toMillis(resourceIntrospectionTimes.getOrDefault(resourceClass, 0L)))
+                .append(" ms, repository instantiation ")
+                .append(toMillis(resourceInstantiationTimes.getOrDefault(resourceClass, 0L))).append(" ms");
+        }
+        return builder.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,389 @@
+package io.katharsis.resource.registry;
+
+import io.katharsis.errorhandling.mapper.ExceptionMapperProvider;
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.resource.annotations.JsonApiResource;
+import net.jodah.typetools.TypeResolver;
+import org.reflections.Reflections;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of resources, repositories and exception mappers, either generated at compile time by
+ * {@link io.katharsis.resource.processor.ResourceIndexProcessor} or created by scanning the classpath. Each line of
+ * the index file contains an entry type and one or two class names:
+ * <ul>
+ * <li><i>resource</i> followed by a name of a class annotated with {@link JsonApiResource},</li>
+ * <li><i>resourceRepository</i> followed by a name of a {@link ResourceRepository} and its resource class,</li>
+ * <li><i>relationshipRepository</i> followed by a name of a {@link RelationshipRepository} and its source class,</li>
+ * <li><i>exceptionMapper</i> followed by a name of a class annotated with {@link ExceptionMapperProvider}.</li>
+ * <li><i>package</i> followed by a name of a package whose classes have been indexed.</li>
+ * </ul>
+ * An index obtained once using {@link #get(String)} can be passed to both {@link ResourceRegistryBuilder} and
+ * {@link io.katharsis.errorhandling.mapper.ExceptionMapperRegistryBuilder}, so the classpath is scanned at most once.
+ * Builders given only a package name call {@link #get(String)} themselves, which caches the index of each package,
+ * so they scan the classpath at most once as well.
+ */
+public final class ResourceIndex {
+
+    /**
+     * Location of the index files on the classpath
+     */
+    public static final String LOCATION = "META-INF/katharsis/resource.index";
+
+    static final String RESOURCE = "resource";
+    static final String RESOURCE_REPOSITORY = "resourceRepository";
+    static final String RELATIONSHIP_REPOSITORY = "relationshipRepository";
+    static final String EXCEPTION_MAPPER = "exceptionMapper";
+    static final String PACKAGE = "package";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceIndex.class);
+
+    /**
+     * Key of the cached index of all classes
+     */
+    private static final String ALL_PACKAGES = "*";
+
+    /**
+     * Indexes returned by {@link #get(String)} mapped by context class loaders and requested packages. Class loaders
+     * are weakly referenced, so the cache doesn't keep redeployed applications in memory.
+     */
+    private static final Map<ClassLoader, Map<String, ResourceIndex>> CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Set<String> resources = new LinkedHashSet<>();
+    private final Map<String, String> resourceRepositories = new LinkedHashMap<>();
+    private final Map<String, String> relationshipRepositories = new LinkedHashMap<>();
+    private final Set<String> exceptionMappers = new LinkedHashSet<>();
+    private final Set<String> packages = new LinkedHashSet<>();
+
+    /**
+     * Returns an index of classes in the provided packages. The index files available in the context class loader
+     * are used for the packages they have been generated for, the rest of the packages is scanned. Index files can
+     * come from any library on the classpath, so they are never trusted for packages they don't cover.
+     * <p>
+     * The index is created once for each context class loader and list of packages, subsequent calls return copies
+     * of it.
+     *
+     * @param packageName comma separated list of packages, <i>null</i> for all classes
+     * @return index limited to the packages
+     */
+    public static ResourceIndex get(String packageName) {
+        ClassLoader classLoader = getClassLoader();
+        ResourceIndex resourceIndex = CACHE.computeIfAbsent(classLoader, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(packageName != null ? packageName : ALL_PACKAGES, key -> create(packageName, classLoader));
+        return resourceIndex.copy();
+    }
+
+    private static ResourceIndex create(String packageName, ClassLoader classLoader) {
+        if (packageName == null) {
+            return scan(null);
+        }
+        ResourceIndex resourceIndex = null;
+        try {
+            resourceIndex = load(classLoader);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot read resource index, falling back to classpath scanning", e);
+        }
+        if (resourceIndex == null) {
+            return scan(packageName);
+        }
+
+        List<String> coveredPackages = new ArrayList<>();
+        List<String> uncoveredPackages = new ArrayList<>();
+        for (String requestedPackage : packageName.split(",")) {
+            if (resourceIndex.covers(requestedPackage)) {
+                coveredPackages.add(requestedPackage);
+            } else {
+                uncoveredPackages.add(requestedPackage);
+            }
+        }
+        LOGGER.debug("Using resource index found at {} for packages {}", LOCATION, coveredPackages);
+        ResourceIndex result = resourceIndex.forPackages(coveredPackages.toArray(new String[coveredPackages.size()]));
+        if (!uncoveredPackages.isEmpty()) {
+            LOGGER.debug("Scanning packages not covered by resource index: {}", uncoveredPackages);
+            result.addAll(scan(String.join(",", uncoveredPackages)));
+        }
+        return result;
+    }
+
+    /**
+     * A package is covered if it is an indexed package or a subpackage of one. A parent of an indexed package is not
+     * covered, because its other subpackages haven't been indexed.
+     *
+     * @param packageName name of a package
+     * @return <i>true</i> if the index has been generated for the package
+     */
+    public boolean covers(String packageName) {
+        for (String indexedPackage : packages) {
+            if (packageName.equals(indexedPackage) || packageName.startsWith(indexedPackage + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates an index by scanning the classpath. The result can be persisted using {@link #write(Writer)} at build
+     * time and loaded at runtime using {@link #load(ClassLoader)}. The scanned packages are recorded, so
+     * {@link #get(String)} uses the persisted index for them instead of scanning again.
+     *
+     * @param packageName comma separated list of packages, <i>null</i> for all classes
+     * @return index of scanned classes
+     */
+    public static ResourceIndex scan(String packageName) {
+        Reflections reflections;
+        if (packageName != null) {
+            reflections = new Reflections(packageName.split(","));
+        } else {
+            reflections = new Reflections(packageName);
+        }
+
+        ResourceIndex resourceIndex = new ResourceIndex();
+        if (packageName != null) {
+            for (String scannedPackage : packageName.split(",")) {
+                resourceIndex.addPackage(scannedPackage);
+            }
+        }
+        for (Class<?> resourceClass : reflections.getTypesAnnotatedWith(JsonApiResource.class)) {
+            resourceIndex.addResource(resourceClass.getName());
+        }
+        for (Class<?> repositoryClass : reflections.getSubTypesOf(ResourceRepository.class)) {
+            resourceIndex.addResourceRepository(repositoryClass.getName(),
+                resolveFirstTypeArgument(repositoryClass, ResourceRepository.class));
+        }
+        for (Class<?> repositoryClass : reflections.getSubTypesOf(RelationshipRepository.class)) {
+            resourceIndex.addRelationshipRepository(repositoryClass.getName(),
+                resolveFirstTypeArgument(repositoryClass, RelationshipRepository.class));
+        }
+        for (Class<?> exceptionMapperClass : reflections.getTypesAnnotatedWith(ExceptionMapperProvider.class)) {
+            resourceIndex.addExceptionMapper(exceptionMapperClass.getName());
+        }
+        return resourceIndex;
+    }
+
+    private static String resolveFirstTypeArgument(Class<?> repositoryClass, Class<?> repositoryInterface) {
+        return TypeResolver.resolveRawArguments(repositoryInterface, repositoryClass)[0].getName();
+    }
+
+    /**
+     * Loads and merges all index files available in the class loader.
+     *
+     * @param classLoader class loader to be searched for the index files
+     * @return merged index or <i>null</i> if no index file has been found
+     * @throws IOException if an index file cannot be read
+     */
+    public static ResourceIndex load(ClassLoader classLoader) throws IOException {
+        Enumeration<URL> urls = classLoader.getResources(LOCATION);
+        if (!urls.hasMoreElements()) {
+            return null;
+        }
+        ResourceIndex resourceIndex = new ResourceIndex();
+        while (urls.hasMoreElements()) {
+            try (InputStream inputStream = urls.nextElement().openStream()) {
+                resourceIndex.read(inputStream);
+            }
+        }
+        return resourceIndex;
+    }
+
+    void read(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            if (RESOURCE.equals(parts[0]) && parts.length == 2) {
+                addResource(parts[1]);
+            } else if (RESOURCE_REPOSITORY.equals(parts[0]) && parts.length == 3) {
+                addResourceRepository(parts[1], parts[2]);
+            } else if (RELATIONSHIP_REPOSITORY.equals(parts[0]) && parts.length == 3) {
+                addRelationshipRepository(parts[1], parts[2]);
+            } else if (EXCEPTION_MAPPER.equals(parts[0]) && parts.length == 2) {
+                addExceptionMapper(parts[1]);
+            } else if (PACKAGE.equals(parts[0]) && parts.length == 2) {
+                addPackage(parts[1]);
+            } else {
+                throw new IOException("Invalid resource index entry: " + line);
+            }
+        }
+    }
+
+    /**
+     * Writes the index in the format read by {@link #load(ClassLoader)}.
+     *
+     * @param writer target of the index
+     * @throws IOException if the index cannot be written
+     */
+    public void write(Writer writer) throws IOException {
+        for (String resource : resources) {
+            writer.write(RESOURCE + " " + resource + "\n");
+        }
+        for (Map.Entry<String, String> entry : resourceRepositories.entrySet()) {
+            writer.write(RESOURCE_REPOSITORY + " " + entry.getKey() + " " + entry.getValue() + "\n");
+        }
+        for (Map.Entry<String, String> entry : relationshipRepositories.entrySet()) {
+            writer.write(RELATIONSHIP_REPOSITORY + " " + entry.getKey() + " " + entry.getValue() + "\n");
+        }
+        for (String exceptionMapper : exceptionMappers) {
+            writer.write(EXCEPTION_MAPPER + " " + exceptionMapper + "\n");
+        }
+        for (String indexedPackage : packages) {
+            writer.write(PACKAGE + " " + indexedPackage + "\n");
+        }
+    }
+
+    /**
+     * Creates a copy of the index with entries of classes in the provided packages only.
+     *
+     * @param packageNames packages to be included, <i>null</i> for all classes
+     * @return limited index
+     */
+    public ResourceIndex forPackages(String[] packageNames) {
+        if (packageNames == null) {
+            return this;
+        }
+        ResourceIndex resourceIndex = new ResourceIndex();
+        resources.stream()
+            .filter(className -> isInPackages(className, packageNames))
+            .forEach(resourceIndex::addResource);
+        resourceRepositories.entrySet().stream()
+            .filter(entry -> isInPackages(entry.getKey(), packageNames))
+            .forEach(entry -> resourceIndex.addResourceRepository(entry.getKey(), entry.getValue()));
+        relationshipRepositories.entrySet().stream()
+            .filter(entry -> isInPackages(entry.getKey(), packageNames))
+            .forEach(entry -> resourceIndex.addRelationshipRepository(entry.getKey(), entry.getValue()));
+        exceptionMappers.stream()
+            .filter(className -> isInPackages(className, packageNames))
+            .forEach(resourceIndex::addExceptionMapper);
+        packages.stream()
+            .filter(indexedPackage -> isInPackages(indexedPackage, packageNames))
+            .forEach(resourceIndex::addPackage);
+        return resourceIndex;
+    }
+
+    private ResourceIndex copy() {
+        ResourceIndex resourceIndex = new ResourceIndex();
+        resourceIndex.addAll(this);
+        return resourceIndex;
+    }
+
+    /**
+     * Adds all entries of another index to this index.
+     *
+     * @param resourceIndex index to be merged
+     */
+    public void addAll(ResourceIndex resourceIndex) {
+        resources.addAll(resourceIndex.resources);
+        resourceRepositories.putAll(resourceIndex.resourceRepositories);
+        relationshipRepositories.putAll(resourceIndex.relationshipRepositories);
+        exceptionMappers.addAll(resourceIndex.exceptionMappers);
+        packages.addAll(resourceIndex.packages);
+    }
+
+    private static boolean isInPackages(String className, String[] packageNames) {
+        for (String packageName : packageNames) {
+            if (className.equals(packageName) || className.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Loads an indexed class using the context class loader without initializing it.
+     *
+     * @param className binary name of the class
+     * @return loaded class
+     * @throws IllegalStateException if the class cannot be found
+     */
+    public static Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Class from resource index not found: " + className, e);
+        }
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ResourceIndex.class.getClassLoader();
+    }
+
+    public void addResource(String resourceClassName) {
+        resources.add(resourceClassName);
+    }
+
+    public void addResourceRepository(String repositoryClassName, String resourceClassName) {
+        resourceRepositories.put(repositoryClassName, resourceClassName);
+    }
+
+    public void addRelationshipRepository(String repositoryClassName, String sourceClassName) {
+        relationshipRepositories.put(repositoryClassName, sourceClassName);
+    }
+
+    public void addExceptionMapper(String exceptionMapperClassName) {
+        exceptionMappers.add(exceptionMapperClassName);
+    }
+
+    public void addPackage(String packageName) {
+        packages.add(packageName);
+    }
+
+    /**
+     * @return names of resource classes
+     */
+    public Set<String> getResources() {
+        return Collections.unmodifiableSet(resources);
+    }
+
+    /**
+     * @return names of resource repository classes mapped to names of their resource classes
+     */
+    public Map<String, String> getResourceRepositories() {
+        return Collections.unmodifiableMap(resourceRepositories);
+    }
+
+    /**
+     * @return names of relationship repository classes mapped to names of their source classes
+     */
+    public Map<String, String> getRelationshipRepositories() {
+        return Collections.unmodifiableMap(relationshipRepositories);
+    }
+
+    /**
+     * @return names of exception mapper classes
+     */
+    public Set<String> getExceptionMappers() {
+        return Collections.unmodifiableSet(exceptionMappers);
+    }
+
+    /**
+     * @return names of packages whose classes have been indexed
+     */
+    public Set<String> getPackages() {
+        return Collections.unmodifiableSet(packages);
+    }
+}
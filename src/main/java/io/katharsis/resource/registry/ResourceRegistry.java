@@ -2,17 +2,43 @@ package io.katharsis.resource.registry;
 
 import io.katharsis.resource.annotations.JsonApiResource;
 import io.katharsis.resource.exception.init.ResourceNotFoundInitializationException;
+import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
+/**
+ * Keeps registered resources in an immutable {@link Snapshot} with precomputed lookup tables. Adding an entry creates a
+ * new snapshot and publishes it, so lookups done by running requests are not blocked and always see a consistent
+ * state.
+ */
 public class ResourceRegistry {
-    private final Map<Class, RegistryEntry> resources = new HashMap<>();
+
+    private static final ClassValue<String> RESOURCE_TYPES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> clazz) {
+            Annotation[] annotations = clazz.getAnnotations();
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof JsonApiResource) {
+                    JsonApiResource apiResource = (JsonApiResource) annotation;
+                    return apiResource.type();
+                }
+            }
+            // won't reach this
+            return null;
+        }
+    };
+
     private final String serviceUrl;
     private final Logger logger = LoggerFactory.getLogger(ResourceRegistry.class);
+    private volatile Snapshot snapshot = new Snapshot();
 
     public ResourceRegistry(String serviceUrl) {
         this.serviceUrl = serviceUrl;
@@ -20,46 +46,161 @@ public class ResourceRegistry {
 
 
     public <T> void addEntry(Class<T> resource, RegistryEntry<? extends T> registryEntry) {
-        resources.put(resource, registryEntry);
-        logger.debug("Added resource {} to ResourceRegistry", resource.getName());
+        addEntries(Collections.singletonMap(resource, registryEntry));
     }
 
-    public RegistryEntry getEntry(String searchType) {
-        RegistryEntry registryEntry = null;
-        for (Map.Entry<Class, RegistryEntry> entry : resources.entrySet()) {
-            String type = getResourceType(entry.getKey());
-            if (type.equals(searchType)) {
-                registryEntry = entry.getValue();
-            }
+    /**
+     * Adds entries at once, so a single snapshot is created and relationships are resolved once for all of them.
+     *
+     * @param registryEntries entries mapped by their resource classes
+     */
+    public void addEntries(Map<? extends Class<?>, ? extends RegistryEntry> registryEntries) {
+        synchronized (this) {
+            snapshot = snapshot.with(registryEntries, serviceUrl);
+        }
+        for (Class<?> resource : registryEntries.keySet()) {
+            logger.debug("Added resource {} to ResourceRegistry", resource.getName());
         }
-        return registryEntry;
+    }
+
+    public RegistryEntry getEntry(String searchType) {
+        return snapshot.entriesByType.get(searchType);
     }
 
     public RegistryEntry getEntry(Class clazz) {
-        RegistryEntry registryEntry = resources.get(clazz);
+        RegistryEntry registryEntry = snapshot.entries.get(clazz);
         if (registryEntry != null) {
             return registryEntry;
         }
         throw new ResourceNotFoundInitializationException(clazz.getCanonicalName());
     }
 
-    public String getResourceType(Class clazz) {
-        Annotation[] annotations = clazz.getAnnotations();
-        for (Annotation annotation : annotations) {
-            if (annotation instanceof JsonApiResource) {
-                JsonApiResource apiResource = (JsonApiResource) annotation;
-                return apiResource.type();
-            }
+    /**
+     * Returns an entry of resources related through a relationship field.
+     *
+     * @param relationshipField relationship field of a registered resource
+     * @return entry of related resources
+     * @throws ResourceNotFoundInitializationException if the related resource is not registered
+     */
+    public RegistryEntry getEntry(ResourceField relationshipField) {
+        RegistryEntry registryEntry = snapshot.relationshipTargets.get(relationshipField);
+        if (registryEntry != null) {
+            return registryEntry;
         }
-        // won't reach this
-        return null;
+        return getEntry(relationshipField.getTargetClass());
+    }
+
+    /**
+     * Returns registered entries by their resource types. A different instance is returned after any entry has been
+     * added, so the instance can be used to detect changes of the registry.
+     *
+     * @return unmodifiable map of resource types and their entries
+     */
+    public Map<String, RegistryEntry> getEntriesByType() {
+        return snapshot.entriesByType;
+    }
+
+    public String getResourceType(Class clazz) {
+        return RESOURCE_TYPES.get(clazz);
     }
 
     public String getResourceUrl(Class clazz) {
-        return serviceUrl + "/" + getResourceType(clazz);
+        String resourceUrl = snapshot.resourceUrls.get(clazz);
+        if (resourceUrl != null) {
+            return resourceUrl;
+        }
+        return buildResourceUrl(serviceUrl, getResourceType(clazz));
     }
 
     public String getServiceUrl() {
         return serviceUrl;
     }
+
+    /**
+     * Creates repositories of the provided resources in parallel, so the first requests to these resources don't pay
+     * for creating them. Useful if the registry has been built with lazy repositories.
+     *
+     * @param resourceClasses classes of registered resources
+     * @throws ResourceNotFoundInitializationException if a class is not registered
+     */
+    public void warmUp(Collection<Class<?>> resourceClasses) {
+        resourceClasses.parallelStream()
+            .map(this::getEntry)
+            .forEach(RegistryEntry::initializeRepositories);
+    }
+
+    private static String buildResourceUrl(String serviceUrl, String resourceType) {
+        return serviceUrl + "/" + resourceType;
+    }
+
+    /**
+     * Registered entries together with tables derived from them. Never modified after being published.
+     */
+    private static final class Snapshot {
+        private final Map<Class, RegistryEntry> entries;
+        private final Map<String, RegistryEntry> entriesByType;
+        private final Map<Class, String> resourceUrls;
+
+        /**
+         * Entries of related resources keyed by relationship fields of registered resources. Fields are compared by
+         * identity, because fields of different resources can be equal.
+         */
+        private final Map<ResourceField, RegistryEntry> relationshipTargets;
+
+        Snapshot() {
+            this(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+        }
+
+        private Snapshot(Map<Class, RegistryEntry> entries, Map<String, RegistryEntry> entriesByType,
+                         Map<Class, String> resourceUrls) {
+            this.entries = entries;
+            this.entriesByType = entriesByType;
+            this.resourceUrls = resourceUrls;
+            this.relationshipTargets = resolveRelationships(entries);
+        }
+
+        /**
+         * Looks up the entry of related resources of each relationship field once. A field whose target class cannot
+         * be resolved is skipped, the error is reported by the requests using it.
+         */
+        private static Map<ResourceField, RegistryEntry> resolveRelationships(Map<Class, RegistryEntry> entries) {
+            Map<ResourceField, RegistryEntry> relationshipTargets = new IdentityHashMap<>();
+            for (RegistryEntry<?> entry : entries.values()) {
+                ResourceInformation resourceInformation = entry.getResourceInformation();
+                if (resourceInformation == null) {
+                    continue;
+                }
+                for (int i = 0; i < resourceInformation.getRelationshipCount(); i++) {
+                    ResourceField relationshipField = resourceInformation.getRelationshipField(i);
+                    Class<?> targetClass;
+                    try {
+                        targetClass = relationshipField.getTargetClass();
+                    } catch (RuntimeException e) {
+                        continue;
+                    }
+                    RegistryEntry targetEntry = entries.get(targetClass);
+                    if (targetEntry != null) {
+                        relationshipTargets.put(relationshipField, targetEntry);
+                    }
+                }
+            }
+            return relationshipTargets;
+        }
+
+        Snapshot with(Map<? extends Class<?>, ? extends RegistryEntry> addedEntries, String serviceUrl) {
+            Map<Class, RegistryEntry> newEntries = new HashMap<>(entries);
+            Map<String, RegistryEntry> newEntriesByType = new HashMap<>(entriesByType);
+            Map<Class, String> newResourceUrls = new HashMap<>(resourceUrls);
+            for (Map.Entry<? extends Class<?>, ? extends RegistryEntry> addedEntry : addedEntries.entrySet()) {
+                Class<?> resource = addedEntry.getKey();
+                String resourceType = RESOURCE_TYPES.get(resource);
+                newEntries.put(resource, addedEntry.getValue());
+                if (resourceType != null) {
+                    newEntriesByType.put(resourceType, addedEntry.getValue());
+                }
+                newResourceUrls.put(resource, buildResourceUrl(serviceUrl, resourceType));
+            }
+            return new Snapshot(newEntries, Collections.unmodifiableMap(newEntriesByType), newResourceUrls);
+        }
+    }
 }
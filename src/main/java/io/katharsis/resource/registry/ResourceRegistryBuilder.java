@@ -8,15 +8,16 @@ import io.katharsis.repository.exception.RepositoryInstanceNotFoundException;
 import io.katharsis.resource.annotations.JsonApiResource;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.information.ResourceInformationBuilder;
-import net.jodah.typetools.TypeResolver;
-import org.reflections.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,160 +28,214 @@ public class ResourceRegistryBuilder {
 
     private final JsonServiceLocator context;
     private final ResourceInformationBuilder resourceInformationBuilder;
+    private final boolean lazyRepositories;
     private final Logger logger = LoggerFactory.getLogger(ResourceRegistryBuilder.class);
+    private volatile RegistryStartupReport startupReport;
 
     public ResourceRegistryBuilder(JsonServiceLocator context, ResourceInformationBuilder resourceInformationBuilder) {
+        this(context, resourceInformationBuilder, false);
+    }
+
+    /**
+     * @param context                    locator of repository instances
+     * @param resourceInformationBuilder builder of information about resources
+     * @param lazyRepositories           if <i>true</i>, a repository is obtained from the locator on its first use
+     *                                   instead of during {@link #build(String, String)}. The locator has to be
+     *                                   thread-safe in this mode. Repositories of frequently used resources can be
+     *                                   created in advance using {@link ResourceRegistry#warmUp(java.util.Collection)}.
+     */
+    public ResourceRegistryBuilder(JsonServiceLocator context, ResourceInformationBuilder resourceInformationBuilder,
+                                   boolean lazyRepositories) {
         this.context = context;
         this.resourceInformationBuilder = resourceInformationBuilder;
+        this.lazyRepositories = lazyRepositories;
     }
 
     /**
      * Scans all classes in provided package and finds all resources and repositories associated with found resource.
+     * If a {@link ResourceIndex} generated at compile time is available, it is used instead of scanning.
      *
      * @param packageName Package containing resources (models) and repositories.
      * @param serviceUrl  URL to the service
      * @return an instance of ResourceRegistry
      */
     public ResourceRegistry build(String packageName, @SuppressWarnings("SameParameterValue") String serviceUrl) {
-        Reflections reflections;
-        if (packageName != null) {
-            String[] packageNames = packageName.split(",");
-            reflections = new Reflections(packageNames);
-        } else {
-            reflections = new Reflections(packageName);
-        }
-
-
-        Set<Class<?>> jsonApiResources = reflections.getTypesAnnotatedWith(JsonApiResource.class);
-        Set<Class<? extends ResourceRepository>> entityRepositoryClasses = reflections.getSubTypesOf(ResourceRepository.class);
-        Set<Class<? extends RelationshipRepository>> relationshipRepositoryClasses = reflections
-            .getSubTypesOf(RelationshipRepository.class);
+        long scanStart = System.nanoTime();
+        ResourceIndex resourceIndex = ResourceIndex.get(packageName);
+        return build(resourceIndex, serviceUrl, System.nanoTime() - scanStart);
+    }
 
-        Set<ResourceInformation> resourceInformationSet = jsonApiResources.stream()
-            .map(resourceInformationBuilder::build)
-            .collect(Collectors.toSet());
+    /**
+     * Builds a registry of resources and repositories listed in an index.
+     *
+     * @param resourceIndex index of resources (models) and repositories
+     * @param serviceUrl    URL to the service
+     * @return an instance of ResourceRegistry
+     */
+    public ResourceRegistry build(ResourceIndex resourceIndex, String serviceUrl) {
+        return build(resourceIndex, serviceUrl, 0);
+    }
 
+    /**
+     * Information about resources is built in parallel on the common fork-join pool. Repositories are indexed by their
+     * resource classes beforehand and instantiated sequentially, because {@link JsonServiceLocator} implementations
+     * are not required to be thread-safe.
+     */
+    private ResourceRegistry build(ResourceIndex resourceIndex, String serviceUrl, long scanTime) {
+        RegistryStartupReport report = new RegistryStartupReport();
+        report.setScanTime(scanTime);
 
-        Set<RegistryEntry> registryEntries = new HashSet<>(resourceInformationSet.size());
-        for (ResourceInformation resourceInformation : resourceInformationSet) {
+        Set<Class<?>> jsonApiResources = new HashSet<>();
+        for (String resourceClassName : resourceIndex.getResources()) {
+            jsonApiResources.add(ResourceIndex.loadClass(resourceClassName));
+        }
+        Map<Class<?>, Set<Class<? extends ResourceRepository>>> entityRepositoryClasses =
+            indexRepositoryClasses(resourceIndex.getResourceRepositories(), ResourceRepository.class);
+        Map<Class<?>, Set<Class<? extends RelationshipRepository>>> relationshipRepositoryClasses =
+            indexRepositoryClasses(resourceIndex.getRelationshipRepositories(), RelationshipRepository.class);
+
+        long introspectionStart = System.nanoTime();
+        List<ResourceInformation> resourceInformationList = jsonApiResources.parallelStream()
+            .map(resourceClass -> buildResourceInformation(resourceClass, report))
+            .collect(Collectors.toList());
+        report.setIntrospectionTime(System.nanoTime() - introspectionStart);
+
+        long instantiationStart = System.nanoTime();
+        Map<Class<?>, RegistryEntry> registryEntries = new HashMap<>(resourceInformationList.size());
+        for (ResourceInformation resourceInformation : resourceInformationList) {
+            long resourceStart = System.nanoTime();
             Class<?> resourceClass = resourceInformation.getResourceClass();
 
-
-            Class<? extends ResourceRepository> foundEntityRepositoryClass = findEntityRepository(resourceClass,
-                entityRepositoryClasses);
+            Set<Class<? extends ResourceRepository>> foundEntityRepositoryClasses =
+                entityRepositoryClasses.getOrDefault(resourceClass, Collections.emptySet());
             Set<Class<? extends RelationshipRepository>> foundRelationshipRepositoriesClasses =
-                findRelationshipRepositories(resourceClass, relationshipRepositoryClasses);
+                relationshipRepositoryClasses.getOrDefault(resourceClass, Collections.emptySet());
 
             RegistryEntry registryEntry;
-            if (foundEntityRepositoryClass == null) {
+            if (foundEntityRepositoryClasses.isEmpty()) {
                 registryEntry = createNotFoundEntry(resourceInformation, foundRelationshipRepositoriesClasses);
             } else {
-                registryEntry = createEntry(resourceInformation, foundEntityRepositoryClass,
+                registryEntry = createEntry(resourceInformation, foundEntityRepositoryClasses.iterator().next(),
                     foundRelationshipRepositoriesClasses);
             }
-            registryEntries.add(registryEntry);
-
+            registryEntries.put(resourceClass, registryEntry);
+            report.addResourceInstantiationTime(resourceClass, System.nanoTime() - resourceStart);
         }
+        report.setInstantiationTime(System.nanoTime() - instantiationStart);
 
         ResourceRegistry resourceRegistry = new ResourceRegistry(serviceUrl);
-        for (RegistryEntry registryEntry : registryEntries) {
-            Class<?> resourceClass = registryEntry.getResourceInformation().getResourceClass();
-            RegistryEntry registryEntryParent = findParent(resourceClass, registryEntries);
-            registryEntry.setParentRegistryEntry(registryEntryParent);
-            resourceRegistry.addEntry(resourceClass, registryEntry);
+        for (Map.Entry<Class<?>, RegistryEntry> registryEntry : registryEntries.entrySet()) {
+            RegistryEntry registryEntryParent = findParent(registryEntry.getKey(), registryEntries);
+            registryEntry.getValue().setParentRegistryEntry(registryEntryParent);
         }
+        resourceRegistry.addEntries(registryEntries);
 
+        startupReport = report;
+        logger.debug("{}", report);
         return resourceRegistry;
     }
 
+    /**
+     * Returns timings of the last {@link #build(String, String)} or {@link #build(ResourceIndex, String)} call.
+     *
+     * @return startup report or <i>null</i> if no registry has been built yet
+     */
+    public RegistryStartupReport getStartupReport() {
+        return startupReport;
+    }
+
+    private ResourceInformation buildResourceInformation(Class<?> resourceClass, RegistryStartupReport report) {
+        long start = System.nanoTime();
+        ResourceInformation resourceInformation = resourceInformationBuilder.build(resourceClass);
+        report.addResourceIntrospectionTime(resourceClass, System.nanoTime() - start);
+        return resourceInformation;
+    }
+
     /**
      * Finds the closest resource, that is resource annotated with {@link JsonApiResource} annotation, in the class
      * inheritance hierarchy. If no resource parent is found, <i>null</i> is returned.
      *
      * @param resourceClass    information about the searched resource
-     * @param registryEntries a set of available resources
+     * @param registryEntries available resources mapped by their classes
      * @return resource's parent resource
      */
-    private RegistryEntry findParent(Class<?> resourceClass, Set<RegistryEntry> registryEntries) {
-        RegistryEntry foundRegistryEntry = null;
+    private RegistryEntry findParent(Class<?> resourceClass, Map<Class<?>, RegistryEntry> registryEntries) {
         Class<?> currentClass = resourceClass.getSuperclass();
-        classHierarchy:
         while (currentClass != null && currentClass != Object.class) {
-            for (RegistryEntry availableRegistryEntry : registryEntries) {
-                if (availableRegistryEntry.getResourceInformation().getResourceClass().equals(currentClass)) {
-                    foundRegistryEntry = availableRegistryEntry;
-                    break classHierarchy;
-                }
+            RegistryEntry foundRegistryEntry = registryEntries.get(currentClass);
+            if (foundRegistryEntry != null) {
+                return foundRegistryEntry;
             }
             currentClass = currentClass.getSuperclass();
         }
-        return foundRegistryEntry;
+        return null;
     }
 
     private RegistryEntry createNotFoundEntry(ResourceInformation resourceInformation,
                                               Set<Class<? extends RelationshipRepository>> foundRelationshipRepositoriesClasses) {
-        ResourceRepository resourceRepository = new NotFoundRepository(resourceInformation.getResourceClass());
-        List<RelationshipRepository> relationshipRepositories = initializeRelationshipRepositories(
+        LazyRepository<ResourceRepository> resourceRepository =
+            LazyRepository.of(new NotFoundRepository(resourceInformation.getResourceClass()));
+        List<LazyRepository<RelationshipRepository>> relationshipRepositories = initializeRelationshipRepositories(
             foundRelationshipRepositoriesClasses, resourceInformation.getResourceClass());
         //noinspection unchecked
-        return new RegistryEntry(resourceInformation, resourceRepository, relationshipRepositories);
+        return RegistryEntry.withLazyRepositories(resourceInformation, (LazyRepository) resourceRepository,
+            (List) relationshipRepositories);
     }
 
-    private Class<? extends ResourceRepository> findEntityRepository(Class resourceClass,
-                                                                     Set<Class<? extends ResourceRepository>> entityRepositoryClasses) {
-        for (Class<? extends ResourceRepository> entityRepositoryClass : entityRepositoryClasses) {
-            Class<?>[] typeArgs = TypeResolver.resolveRawArguments(ResourceRepository.class, entityRepositoryClass);
-            if (typeArgs[0] == resourceClass) {
-                return entityRepositoryClass;
-            }
-        }
-
-        return null;
-    }
-
-    private Set<Class<? extends RelationshipRepository>> findRelationshipRepositories(Class resourceClass,
-                                                                                      Set<Class<? extends RelationshipRepository>> relationshipRepositoryClasses) {
-        Set<Class<? extends RelationshipRepository>> foundRelationshipRepositories = new HashSet<>();
-        for (Class<? extends RelationshipRepository> relationshipRepository : relationshipRepositoryClasses) {
-            Class<?>[] typeArgs = TypeResolver.resolveRawArguments(RelationshipRepository.class, relationshipRepository);
-            if (typeArgs[0] == resourceClass) {
-                foundRelationshipRepositories.add(relationshipRepository);
-            }
+    /**
+     * Loads indexed repositories and groups them by the first type parameter, that is a resource class for
+     * {@link ResourceRepository} and a source class for {@link RelationshipRepository}.
+     */
+    private <T> Map<Class<?>, Set<Class<? extends T>>> indexRepositoryClasses(Map<String, String> indexedRepositories,
+                                                                              Class<T> repositoryInterface) {
+        Map<Class<?>, Set<Class<? extends T>>> repositoryClasses = new HashMap<>(indexedRepositories.size());
+        for (Map.Entry<String, String> indexedRepository : indexedRepositories.entrySet()) {
+            repositoryClasses.computeIfAbsent(ResourceIndex.loadClass(indexedRepository.getValue()),
+                resourceClass -> new LinkedHashSet<>())
+                .add(ResourceIndex.loadClass(indexedRepository.getKey()).asSubclass(repositoryInterface));
         }
-        return foundRelationshipRepositories;
+        return repositoryClasses;
     }
 
     private RegistryEntry createEntry(ResourceInformation resourceInformation,
                                       Class<? extends ResourceRepository> foundEntityRepositoryClass,
                                       Set<Class<? extends RelationshipRepository>> foundRelationshipRepositoriesClasses) {
-        ResourceRepository resourceRepository = context.getInstance(foundEntityRepositoryClass);
-        if (resourceRepository == null) {
-            throw new RepositoryInstanceNotFoundException(foundEntityRepositoryClass.getCanonicalName());
-        }
+        LazyRepository<ResourceRepository> resourceRepository = initializeRepository(foundEntityRepositoryClass);
 
         logger.debug("Assigned {} ResourceRepository to {} resource class",
             foundEntityRepositoryClass.getCanonicalName(), resourceInformation.getResourceClass().getCanonicalName());
 
-        List<RelationshipRepository> relationshipRepositories =
+        List<LazyRepository<RelationshipRepository>> relationshipRepositories =
             initializeRelationshipRepositories(foundRelationshipRepositoriesClasses, resourceInformation.getResourceClass());
         //noinspection unchecked
-        return new RegistryEntry(resourceInformation, resourceRepository, relationshipRepositories);
+        return RegistryEntry.withLazyRepositories(resourceInformation, (LazyRepository) resourceRepository,
+            (List) relationshipRepositories);
     }
 
-    private List<RelationshipRepository> initializeRelationshipRepositories(
+    private List<LazyRepository<RelationshipRepository>> initializeRelationshipRepositories(
         Set<Class<? extends RelationshipRepository>> foundRelationshipRepositoriesClasses, Class resourceClass) {
-        List<RelationshipRepository> relationshipRepositories = new LinkedList<>();
+        List<LazyRepository<RelationshipRepository>> relationshipRepositories = new LinkedList<>();
         for (Class<? extends RelationshipRepository> relationshipRepositoryClass : foundRelationshipRepositoriesClasses) {
-            RelationshipRepository relationshipRepository = context.getInstance(relationshipRepositoryClass);
-            if (relationshipRepository == null) {
-                throw new RepositoryInstanceNotFoundException(relationshipRepositoryClass.getCanonicalName());
-            }
+            relationshipRepositories.add(initializeRepository(relationshipRepositoryClass));
 
             logger.debug("Assigned {} RelationshipRepository  to {} resource class",
                 relationshipRepositoryClass.getCanonicalName(), resourceClass.getCanonicalName());
-
-            relationshipRepositories.add(relationshipRepository);
         }
         return relationshipRepositories;
     }
+
+    private <R> LazyRepository<R> initializeRepository(Class<? extends R> repositoryClass) {
+        if (lazyRepositories) {
+            return LazyRepository.of(repositoryClass, () -> getRepositoryInstance(repositoryClass));
+        }
+        return LazyRepository.of(getRepositoryInstance(repositoryClass));
+    }
+
+    private <R> R getRepositoryInstance(Class<? extends R> repositoryClass) {
+        R repository = context.getInstance(repositoryClass);
+        if (repository == null) {
+            throw new RepositoryInstanceNotFoundException(repositoryClass.getCanonicalName());
+        }
+        return repository;
+    }
 }
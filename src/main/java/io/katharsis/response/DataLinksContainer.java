@@ -2,7 +2,10 @@ package io.katharsis.response;
 
 import io.katharsis.jackson.serializer.DataLinksContainerSerializer;
 import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceInformation;
 
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -22,11 +25,44 @@ import java.util.Set;
  */
 public class DataLinksContainer {
     private final Object data;
+    private final ResourceInformation resourceInformation;
+    private final int[] relationshipIndexes;
     private final Set<ResourceField> relationshipFields;
+    private final String resourceUrl;
 
     public DataLinksContainer(Object data, Set<ResourceField> relationshipFields) {
+        this(data, relationshipFields, null);
+    }
+
+    /**
+     * @param data               resource
+     * @param relationshipFields relationships to be serialized
+     * @param resourceUrl        already formatted URL of the resource, used as a base of relationship links
+     */
+    public DataLinksContainer(Object data, Set<ResourceField> relationshipFields, String resourceUrl) {
         this.data = data;
+        this.resourceInformation = null;
+        this.relationshipIndexes = null;
         this.relationshipFields = relationshipFields;
+        this.resourceUrl = resourceUrl;
+    }
+
+    /**
+     * Creates a container whose relationships are identified by their indexes in the information about the resource,
+     * so their values can be read without looking up the resource in the registry.
+     *
+     * @param data                resource
+     * @param resourceInformation information about the resource
+     * @param relationshipIndexes indexes of relationships to be serialized, <i>null</i> for all relationships
+     * @param resourceUrl         already formatted URL of the resource, used as a base of relationship links
+     */
+    public DataLinksContainer(Object data, ResourceInformation resourceInformation, int[] relationshipIndexes,
+                              String resourceUrl) {
+        this.data = data;
+        this.resourceInformation = resourceInformation;
+        this.relationshipIndexes = relationshipIndexes;
+        this.relationshipFields = null;
+        this.resourceUrl = resourceUrl;
     }
 
     public Object getData() {
@@ -34,7 +70,44 @@ public class DataLinksContainer {
     }
 
     public Set<ResourceField> getRelationshipFields() {
-        return relationshipFields;
+        if (relationshipFields != null) {
+            return relationshipFields;
+        }
+        Set<ResourceField> fields = new LinkedHashSet<>();
+        for (int i = 0; i < getRelationshipCount(); i++) {
+            fields.add(resourceInformation.getRelationshipField(getRelationshipIndex(i)));
+        }
+        return fields;
+    }
+
+    /**
+     * @return information about the resource or <i>null</i> if the relationships are provided as fields
+     */
+    public ResourceInformation getResourceInformation() {
+        return resourceInformation;
+    }
+
+    /**
+     * @return number of serialized relationships if the container has been created with information about the
+     * resource
+     */
+    public int getRelationshipCount() {
+        return relationshipIndexes != null ? relationshipIndexes.length : resourceInformation.getRelationshipCount();
+    }
+
+    /**
+     * @param position position of a serialized relationship, less than {@link #getRelationshipCount()}
+     * @return index of the relationship in the information about the resource
+     */
+    public int getRelationshipIndex(int position) {
+        return relationshipIndexes != null ? relationshipIndexes[position] : position;
+    }
+
+    /**
+     * @return URL of the resource or <i>null</i> if it hasn't been formatted yet
+     */
+    public String getResourceUrl() {
+        return resourceUrl;
     }
 
     @Override
@@ -43,11 +116,15 @@ public class DataLinksContainer {
         if (o == null || getClass() != o.getClass()) return false;
         DataLinksContainer that = (DataLinksContainer) o;
         return Objects.equals(data, that.data) &&
-                Objects.equals(relationshipFields, that.relationshipFields);
+                Objects.equals(resourceInformation, that.resourceInformation) &&
+                Arrays.equals(relationshipIndexes, that.relationshipIndexes) &&
+                Objects.equals(relationshipFields, that.relationshipFields) &&
+                Objects.equals(resourceUrl, that.resourceUrl);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(data, relationshipFields);
+        return Objects.hash(data, resourceInformation, Arrays.hashCode(relationshipIndexes), relationshipFields,
+            resourceUrl);
     }
 }
@@ -23,16 +23,37 @@ import java.util.Objects;
 public class RelationshipContainer {
     private final DataLinksContainer dataLinksContainer;
     private final ResourceField relationshipField;
+    private final int relationshipIndex;
 
     public RelationshipContainer(DataLinksContainer dataLinksContainer, ResourceField relationshipField) {
+        this(dataLinksContainer, relationshipField, -1);
+    }
+
+    /**
+     * @param dataLinksContainer links container of the resource
+     * @param relationshipField  relationship field
+     * @param relationshipIndex  index of the field in
+     *                           {@link io.katharsis.resource.information.ResourceInformation} of the resource,
+     *                           <i>-1</i> if not known
+     */
+    public RelationshipContainer(DataLinksContainer dataLinksContainer, ResourceField relationshipField,
+                                 int relationshipIndex) {
         this.dataLinksContainer = dataLinksContainer;
         this.relationshipField = relationshipField;
+        this.relationshipIndex = relationshipIndex;
     }
 
     public ResourceField getRelationshipField() {
         return relationshipField;
     }
 
+    /**
+     * @return index of the relationship field or <i>-1</i> if not known
+     */
+    public int getRelationshipIndex() {
+        return relationshipIndex;
+    }
+
     public DataLinksContainer getDataLinksContainer() {
         return dataLinksContainer;
     }
@@ -43,11 +64,12 @@ public class RelationshipContainer {
         if (o == null || getClass() != o.getClass()) return false;
         RelationshipContainer that = (RelationshipContainer) o;
         return Objects.equals(dataLinksContainer, that.dataLinksContainer) &&
-                Objects.equals(relationshipField, that.relationshipField);
+                Objects.equals(relationshipField, that.relationshipField) &&
+                relationshipIndex == that.relationshipIndex;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(dataLinksContainer, relationshipField);
+        return Objects.hash(dataLinksContainer, relationshipField, relationshipIndex);
     }
 }
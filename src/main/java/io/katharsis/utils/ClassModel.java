@@ -0,0 +1,209 @@
+package io.katharsis.utils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Introspection model of a class, built once by {@link ClassUtils#getClassModel(Class)} and shared by all callers.
+ * It holds class fields, getters and setters found in the class hierarchy, fields and getters mapped by their
+ * {@link JsonProperty} names and internal names, and public getters and setters accompanying each field and getter.
+ * Instances are immutable.
+ */
+public final class ClassModel {
+
+    private final Class<?> beanClass;
+    private final List<Field> fields;
+    private final List<Method> getters;
+    private final List<Method> setters;
+
+    private final Map<String, Field> fieldsByName;
+    private final Map<String, Field> fieldsByJsonProperty;
+    private final Map<String, Method> gettersByName;
+    private final Map<String, Method> gettersByJsonProperty;
+
+    private final Map<Field, Method> fieldGetters;
+    private final Map<Field, Method> fieldSetters;
+    private final Map<Method, Method> getterSetters;
+
+    ClassModel(Class<?> beanClass, Field[] fields, Method[] getters, Method[] setters) {
+        this.beanClass = beanClass;
+        this.fields = Collections.unmodifiableList(Arrays.asList(fields));
+        this.getters = Collections.unmodifiableList(Arrays.asList(getters));
+        this.setters = Collections.unmodifiableList(Arrays.asList(setters));
+
+        Map<String, Field> fieldsByName = new HashMap<>();
+        Map<String, Field> fieldsByJsonProperty = new HashMap<>();
+        Map<Field, Method> fieldGetters = new HashMap<>();
+        Map<Field, Method> fieldSetters = new HashMap<>();
+        for (Field field : fields) {
+            fieldsByName.putIfAbsent(field.getName(), field);
+            if (field.isAnnotationPresent(JsonProperty.class)) {
+                fieldsByJsonProperty.putIfAbsent(field.getAnnotation(JsonProperty.class).value(), field);
+            }
+            putIfNotNull(fieldGetters, field, findPublicGetter(field.getName()));
+            putIfNotNull(fieldSetters, field, findPublicSetter(field.getName(), field.getType()));
+        }
+
+        Map<String, Method> gettersByName = new HashMap<>();
+        Map<String, Method> gettersByJsonProperty = new HashMap<>();
+        Map<Method, Method> getterSetters = new HashMap<>();
+        for (Method getter : getters) {
+            String getterFieldName = getGetterFieldName(getter);
+            gettersByName.putIfAbsent(getterFieldName, getter);
+            if (getter.isAnnotationPresent(JsonProperty.class)) {
+                gettersByJsonProperty.putIfAbsent(getter.getAnnotation(JsonProperty.class).value(), getter);
+            }
+            putIfNotNull(getterSetters, getter, findPublicSetter(getterFieldName, getter.getReturnType()));
+        }
+
+        this.fieldsByName = Collections.unmodifiableMap(fieldsByName);
+        this.fieldsByJsonProperty = Collections.unmodifiableMap(fieldsByJsonProperty);
+        this.gettersByName = Collections.unmodifiableMap(gettersByName);
+        this.gettersByJsonProperty = Collections.unmodifiableMap(gettersByJsonProperty);
+        this.fieldGetters = Collections.unmodifiableMap(fieldGetters);
+        this.fieldSetters = Collections.unmodifiableMap(fieldSetters);
+        this.getterSetters = Collections.unmodifiableMap(getterSetters);
+    }
+
+    private static <K, V> void putIfNotNull(Map<K, V> map, K key, V value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+
+    private Method findPublicGetter(String fieldName) {
+        String upperCaseName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+        try {
+            return beanClass.getMethod("get" + upperCaseName);
+        } catch (NoSuchMethodException e) {
+            try {
+                return beanClass.getMethod("is" + upperCaseName);
+            } catch (NoSuchMethodException e1) {
+                return null;
+            }
+        }
+    }
+
+    private Method findPublicSetter(String fieldName, Class<?> fieldType) {
+        String upperCaseName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+        try {
+            return beanClass.getMethod("set" + upperCaseName, fieldType);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a name of a property accessed by a getter, that is the getter name without <i>get</i> or <i>is</i>
+     * prefix and with lower-cased first letter.
+     *
+     * @param getter getter method
+     * @return property name
+     */
+    public static String getGetterFieldName(Method getter) {
+        if (boolean.class.equals(getter.getReturnType()) || Boolean.class.equals(getter.getReturnType())) {
+            return getter.getName().substring(2, 3).toLowerCase() + getter.getName().substring(3);
+        } else {
+            return getter.getName().substring(3, 4).toLowerCase() + getter.getName().substring(4);
+        }
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * @return unmodifiable list of class fields, see {@link ClassUtils#getClassFields(Class)}
+     */
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return unmodifiable list of class getters, see {@link ClassUtils#getClassGetters(Class)}
+     */
+    public List<Method> getGetters() {
+        return getters;
+    }
+
+    /**
+     * @return unmodifiable list of class setters, see {@link ClassUtils#getClassSetters(Class)}
+     */
+    public List<Method> getSetters() {
+        return setters;
+    }
+
+    /**
+     * Finds a field with {@link JsonProperty} value equal to the provided name or, if there is no such field, a field
+     * with the provided name.
+     *
+     * @param name property name
+     * @return found field or <i>null</i>
+     */
+    public Field findField(String name) {
+        Field field = fieldsByJsonProperty.get(name);
+        return field != null ? field : fieldsByName.get(name);
+    }
+
+    /**
+     * Finds a field with the provided name, ignoring {@link JsonProperty} annotation.
+     *
+     * @param name field name
+     * @return found field or <i>null</i>
+     */
+    public Field findFieldByName(String name) {
+        return fieldsByName.get(name);
+    }
+
+    /**
+     * Finds a getter with {@link JsonProperty} value equal to the provided name or, if there is no such getter, a
+     * getter of a property with the provided name.
+     *
+     * @param name property name
+     * @return found getter or <i>null</i>
+     */
+    public Method findGetter(String name) {
+        Method getter = gettersByJsonProperty.get(name);
+        return getter != null ? getter : gettersByName.get(name);
+    }
+
+    /**
+     * @param field class field
+     * @return public getter accompanying the field or <i>null</i>
+     */
+    public Method getFieldGetter(Field field) {
+        return fieldGetters.get(field);
+    }
+
+    /**
+     * @param field class field
+     * @return public setter accompanying the field or <i>null</i>
+     */
+    public Method getFieldSetter(Field field) {
+        return fieldSetters.get(field);
+    }
+
+    /**
+     * @param getter class getter
+     * @return public setter accompanying the getter or <i>null</i>
+     */
+    public Method getGetterSetter(Method getter) {
+        return getterSetters.get(getter);
+    }
+
+    /**
+     * @return names of all properties which can be found using {@link #findField(String)} or
+     * {@link #findGetter(String)}
+     */
+    public Set<String> getPropertyNames() {
+        Set<String> propertyNames = new LinkedHashSet<>();
+        propertyNames.addAll(fieldsByJsonProperty.keySet());
+        propertyNames.addAll(fieldsByName.keySet());
+        propertyNames.addAll(gettersByJsonProperty.keySet());
+        propertyNames.addAll(gettersByName.keySet());
+        return propertyNames;
+    }
+}
@@ -2,28 +2,52 @@ package io.katharsis.utils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Provides reflection methods for parsing information about a class.
+ * Provides reflection methods for parsing information about a class. The class hierarchy is searched only once for
+ * each class and the result is kept in a {@link ClassModel}.
  */
 public class ClassUtils {
 
     private static final ClassUtils INSTANCE = new ClassUtils();
 
+    private static final ClassValue<ClassModel> MODELS = new ClassValue<ClassModel>() {
+        @Override
+        protected ClassModel computeValue(Class<?> beanClass) {
+            return new ClassModel(beanClass, INSTANCE.findClassFields(beanClass), INSTANCE.findClassGetters(beanClass),
+                INSTANCE.findClassSetters(beanClass));
+        }
+    };
+
     private ClassUtils() {
     }
 
+    /**
+     * Returns an introspection model of a class. The model is created on the first call and cached for the lifetime
+     * of the class.
+     *
+     * @param beanClass class to be searched for
+     * @return model of the class
+     */
+    public static ClassModel getClassModel(Class<?> beanClass) {
+        return MODELS.get(beanClass);
+    }
+
     /**
      * Returns a list of class fields. Supports inheritance and doesn't return synthetic fields.
      *
      * @param beanClass class to be searched for
-     * @return a list of found fields
+     * @return a new list of found fields, {@link ClassModel#getFields()} returns a shared unmodifiable one
      */
     public static List<Field> getClassFields(Class<?> beanClass) {
+        return new ArrayList<>(getClassModel(beanClass).getFields());
+    }
+
+    private Field[] findClassFields(Class<?> beanClass) {
         Map<String, Field> result = new HashMap<>();
 
         Class<?> currentClass = beanClass;
@@ -36,7 +60,7 @@ public class ClassUtils {
             currentClass = currentClass.getSuperclass();
         }
 
-        return new LinkedList<>(result.values());
+        return result.values().toArray(new Field[result.size()]);
     }
 
     /**
@@ -51,22 +75,26 @@ public class ClassUtils {
      * </ul>
      *
      * @param beanClass class to be searched for
-     * @return a list of found getters
+     * @return a new list of found getters, {@link ClassModel#getGetters()} returns a shared unmodifiable one
      */
     public static List<Method> getClassGetters(Class<?> beanClass) {
+        return new ArrayList<>(getClassModel(beanClass).getGetters());
+    }
+
+    private Method[] findClassGetters(Class<?> beanClass) {
         Map<String, Method> result = new HashMap<>();
 
         Class<?> currentClass = beanClass;
         while (currentClass != null && currentClass != Object.class) {
             for (Method method : currentClass.getDeclaredMethods()) {
-                if (INSTANCE.isGetter(method)) {
+                if (isGetter(method)) {
                     result.putIfAbsent(method.getName(), method);
                 }
             }
             currentClass = currentClass.getSuperclass();
         }
 
-        return new LinkedList<>(result.values());
+        return result.values().toArray(new Method[result.size()]);
     }
 
     /**
@@ -74,22 +102,26 @@ public class ClassUtils {
      * lowest level of inheritance chain, no other method can override it.
      *
      * @param beanClass class to be searched for
-     * @return a list of found getters
+     * @return a new list of found setters, {@link ClassModel#getSetters()} returns a shared unmodifiable one
      */
     public static List<Method> getClassSetters(Class<?> beanClass) {
+        return new ArrayList<>(getClassModel(beanClass).getSetters());
+    }
+
+    private Method[] findClassSetters(Class<?> beanClass) {
         Map<String, Method> result = new HashMap<>();
 
         Class<?> currentClass = beanClass;
         while (currentClass != null && currentClass != Object.class) {
             for (Method method : currentClass.getDeclaredMethods()) {
-                if (INSTANCE.isSetter(method)) {
+                if (isSetter(method)) {
                     result.putIfAbsent(method.getName(), method);
                 }
             }
             currentClass = currentClass.getSuperclass();
         }
 
-        return new LinkedList<>(result.values());
+        return result.values().toArray(new Method[result.size()]);
     }
 
     private boolean isGetter(Method method) {
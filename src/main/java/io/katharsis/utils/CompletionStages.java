@@ -0,0 +1,82 @@
+package io.katharsis.utils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Helpers for composing {@link CompletionStage} instances with blocking code.
+ */
+public class CompletionStages {
+
+    private CompletionStages() {
+    }
+
+    /**
+     * Calls blocking code on an executor.
+     *
+     * @param callable code to be called
+     * @param executor executor the code is called on
+     * @param <T>      type of the result
+     * @return stage completed with the result or with an exception thrown by the code
+     */
+    public static <T> CompletionStage<T> call(Callable<T> callable, Executor executor) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(callable.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Calls code which returns a stage on an executor, so that the code does not block the calling thread even if it
+     * does blocking work before returning the stage.
+     *
+     * @param callable code to be called
+     * @param executor executor the code is called on
+     * @param <T>      type of the result
+     * @return stage completed when the returned stage completes or with an exception thrown by the code
+     */
+    public static <T> CompletionStage<T> compose(Callable<? extends CompletionStage<T>> callable, Executor executor) {
+        return call(callable, executor).thenCompose(Function.identity());
+    }
+
+    /**
+     * @param throwable cause of the failure
+     * @param <T>       type of the result
+     * @return stage completed with the exception
+     */
+    public static <T> CompletionStage<T> failed(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    /**
+     * Returns an exception thrown by the code the stage has been waiting for. Stages derived from a failed stage are
+     * completed with {@link CompletionException} wrapping the original exception.
+     *
+     * @param throwable exception a stage has been completed with
+     * @return original exception
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,139 @@
+package io.katharsis.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+
+/**
+ * Pre-linked accessor of a single bean property. An instance is resolved once per class and property name by
+ * {@link PropertyUtils}, so reading or writing a value is a direct method handle invocation without any lookups.
+ * Instances can be kept by callers which access the same property of many beans.
+ */
+public final class PropertyAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType LONG_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+
+    private final Class<?> beanClass;
+    private final String name;
+    private final Class<?> type;
+    private final MethodHandle getter;
+    private final MethodHandle longGetter;
+    private final MethodHandle setter;
+    private final Exception getterException;
+    private final Exception setterException;
+
+    /**
+     * @param getter getter handle of any type taking the bean and returning the property value
+     * @param setter setter handle of any type taking the bean and the property value
+     */
+    PropertyAccessor(Class<?> beanClass, String name, MethodHandle getter, Exception getterException,
+                     MethodHandle setter, Exception setterException) {
+        this.beanClass = beanClass;
+        this.name = name;
+
+        MethodHandle adaptedGetter = null, adaptedLongGetter = null, adaptedSetter = null;
+        if (getter != null) {
+            try {
+                adaptedGetter = getter.asType(GETTER_TYPE);
+                if (isIntegral(getter.type().returnType())) {
+                    adaptedLongGetter = getter.asType(LONG_GETTER_TYPE);
+                }
+            } catch (WrongMethodTypeException e) {
+                getterException = e;
+            }
+        }
+        if (setter != null) {
+            try {
+                adaptedSetter = setter.asType(SETTER_TYPE);
+            } catch (WrongMethodTypeException e) {
+                setterException = e;
+            }
+        }
+        this.type = adaptedGetter != null ? getter.type().returnType() : null;
+        this.getter = adaptedGetter;
+        this.longGetter = adaptedLongGetter;
+        this.getterException = getterException;
+        this.setter = adaptedSetter;
+        this.setterException = setterException;
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return type of the property or <i>null</i> if it cannot be accessed
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return <i>true</i> if the property has a primitive integral type and can be read using {@link #getLong(Object)}
+     */
+    public boolean isLongValue() {
+        return longGetter != null;
+    }
+
+    /**
+     * Get bean's primitive integral property value without boxing it
+     *
+     * @param bean bean to be accessed
+     * @return bean's property value
+     */
+    public long getLong(Object bean) {
+        if (longGetter == null) {
+            throw new IllegalStateException(String.format("Property %s.%s is not a primitive integral value",
+                beanClass.getCanonicalName(), name));
+        }
+        try {
+            return (long) longGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == long.class || type == int.class || type == short.class || type == byte.class;
+    }
+
+    /**
+     * Get bean's property value
+     *
+     * @param bean bean to be accessed
+     * @return bean's property value
+     */
+    public Object get(Object bean) {
+        if (getter == null) {
+            throw new RuntimeException(getterException);
+        }
+        try {
+            return getter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Set bean's property value
+     *
+     * @param bean  bean to be accessed
+     * @param value value to be set
+     */
+    public void set(Object bean, Object value) {
+        if (setter == null) {
+            throw new RuntimeException(setterException);
+        }
+        try {
+            setter.invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
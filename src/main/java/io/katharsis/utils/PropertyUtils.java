@@ -2,21 +2,35 @@ package io.katharsis.utils;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.List;
+import java.util.*;
 
 /**
  * <p>
  * A lighter version of Apache Commons PropertyUtils without additional dependencies and with support for fluent
  * setters and {@link JsonProperty} annotation.
  * </p>
+ * <p>
+ * Properties of a class are resolved only once, on the first access, into {@link PropertyAccessor} instances which
+ * are kept for the lifetime of the class.
+ * </p>
  */
 public class PropertyUtils {
 
     private static final PropertyUtils INSTANCE = new PropertyUtils();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Map<String, PropertyAccessor>> ACCESSORS =
+        new ClassValue<Map<String, PropertyAccessor>>() {
+            @Override
+            protected Map<String, PropertyAccessor> computeValue(Class<?> beanClass) {
+                return INSTANCE.createAccessors(beanClass);
+            }
+        };
 
     private PropertyUtils() {
     }
@@ -43,11 +57,31 @@ public class PropertyUtils {
     public static Object getProperty(Object bean, String field) {
         INSTANCE.checkParameters(bean, field);
 
-        try {
-            return INSTANCE.getPropertyValue(bean, field);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
+        return getPropertyAccessor(bean.getClass(), field).get(bean);
+    }
+
+    /**
+     * Get a pre-linked accessor of a bean's property. The search sequence is the same as for
+     * {@link #getProperty(Object, String)} and {@link #setProperty(Object, String, Object)}, but it is made only once
+     * for each class, so the returned accessor can be used to access the property of many beans with no lookups.
+     *
+     * @param beanClass class of the bean to be accessed
+     * @param field     bean's fieldName
+     * @return accessor of bean's property
+     */
+    public static PropertyAccessor getPropertyAccessor(Class<?> beanClass, String field) {
+        if (beanClass == null) {
+            throw new IllegalArgumentException("No bean class specified");
+        }
+        if (field == null) {
+            throw new IllegalArgumentException(String.format("No field specified for bean: %s", beanClass));
+        }
+        PropertyAccessor propertyAccessor = ACCESSORS.get(beanClass).get(field);
+        if (propertyAccessor == null) {
+            throw new RuntimeException(
+                String.format("Cannot find an getter for %s.%s", beanClass.getCanonicalName(), field));
         }
+        return propertyAccessor;
     }
 
     private void checkParameters(Object bean, String field) {
@@ -59,83 +93,87 @@ public class PropertyUtils {
         }
     }
 
-    private Object getPropertyValue(Object bean, String fieldName)
-        throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+    /**
+     * Resolves accessors of all properties of a class. Each property can be reached by the name of its field or
+     * getter or by the value of {@link JsonProperty} annotation.
+     */
+    private Map<String, PropertyAccessor> createAccessors(Class<?> beanClass) {
+        ClassModel classModel = ClassUtils.getClassModel(beanClass);
+
+        Map<String, PropertyAccessor> accessors = new HashMap<>();
+        for (String propertyName : classModel.getPropertyNames()) {
+            accessors.put(propertyName, createAccessor(classModel, propertyName));
+        }
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    private PropertyAccessor createAccessor(ClassModel classModel, String fieldName) {
+        Class<?> beanClass = classModel.getBeanClass();
+        MethodHandle getter = null, setter = null;
+        Exception getterException = null, setterException = null;
 
-        Field foundField = findField(bean, fieldName);
+        Field foundField = classModel.findField(fieldName);
         if (foundField != null) {
             if (!Modifier.isPublic(foundField.getModifiers())) {
-                Method getter = getGetter(bean, foundField.getName());
-                return getter.invoke(bean);
+                try {
+                    getter = toGetterHandle(requireMethod(classModel.getFieldGetter(foundField), beanClass,
+                        "getter", foundField.getName()));
+                } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+                    getterException = e;
+                }
+                try {
+                    setter = toSetterHandle(requireMethod(classModel.getFieldSetter(foundField), beanClass,
+                        "setter", foundField.getName()));
+                } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+                    setterException = e;
+                }
             } else {
-                return foundField.get(bean);
+                try {
+                    foundField.setAccessible(true);
+                    getter = LOOKUP.unreflectGetter(foundField);
+                } catch (IllegalAccessException | RuntimeException e) {
+                    getterException = e;
+                }
+                try {
+                    setter = LOOKUP.unreflectSetter(foundField);
+                } catch (IllegalAccessException | RuntimeException e) {
+                    setterException = e;
+                }
             }
         } else {
-            Method getter = findGetter(bean, fieldName);
-            if (getter == null) {
-                throw new RuntimeException(
-                    String.format("Cannot find an getter for %s.%s", bean.getClass().getCanonicalName(), fieldName));
+            Method foundGetter = classModel.findGetter(fieldName);
+            try {
+                getter = toGetterHandle(foundGetter);
+            } catch (IllegalAccessException | RuntimeException e) {
+                getterException = e;
             }
-            return getter.invoke(bean);
-        }
-    }
-
-    private Method findGetter(Object bean, String fieldName) {
-        List<Method> classGetters = ClassUtils.getClassGetters(bean.getClass());
-
-        for (Method getter : classGetters) { // The first loop tries to get name from annotation
-            if (getter.isAnnotationPresent(JsonProperty.class)
-                && fieldName.equals(getter.getAnnotation(JsonProperty.class).value())) {
-                return getter;
-            }
-        }
-        for (Method getter : classGetters) { // The second just tries to get by internal name
-            String getterFieldName = getGetterFieldName(getter);
-            if (getterFieldName.equals(fieldName)) {
-                return getter;
+            try {
+                setter = toSetterHandle(requireMethod(classModel.getGetterSetter(foundGetter), beanClass,
+                    "setter", ClassModel.getGetterFieldName(foundGetter)));
+            } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+                setterException = e;
             }
         }
-        return null;
+        return new PropertyAccessor(beanClass, fieldName, getter, getterException, setter, setterException);
     }
 
-    private String getGetterFieldName(Method getter) {
-        if (isBoolean(getter.getReturnType())) {
-            return getter.getName().substring(2, 3).toLowerCase() + getter.getName().substring(3);
-        } else {
-            return getter.getName().substring(3, 4).toLowerCase() + getter.getName().substring(4);
+    private Method requireMethod(Method method, Class<?> beanClass, String methodType, String fieldName)
+        throws NoSuchMethodException {
+        if (method == null) {
+            throw new NoSuchMethodException(
+                String.format("No public %s for %s.%s", methodType, beanClass.getCanonicalName(), fieldName));
         }
+        return method;
     }
 
-    private boolean isBoolean(Class<?> returnType) {
-        return boolean.class.equals(returnType) || Boolean.class.equals(returnType);
-    }
-
-    private Field findField(Object bean, String fieldName) {
-        List<Field> classFields = ClassUtils.getClassFields(bean.getClass());
-        for (Field field : classFields) { // The first loop tries to get name from annotation
-            if (field.isAnnotationPresent(JsonProperty.class)
-                && fieldName.equals(field.getAnnotation(JsonProperty.class).value())) {
-                return field;
-            }
-        }
-        for (Field field : classFields) { // The second just tries to get by internal name
-            if (field.getName().equals(fieldName)) {
-                return field;
-            }
-        }
-        return null;
+    private MethodHandle toGetterHandle(Method getter) throws IllegalAccessException {
+        getter.setAccessible(true);
+        return LOOKUP.unreflect(getter);
     }
 
-    private Method getGetter(Object bean, String fieldName) throws NoSuchMethodException {
-        Class<?> beanClass = bean.getClass();
-
-        String upperCaseName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-
-        try {
-            return beanClass.getMethod("get" + upperCaseName);
-        } catch (NoSuchMethodException e) {
-            return beanClass.getMethod("is" + upperCaseName);
-        }
+    private MethodHandle toSetterHandle(Method setter) throws IllegalAccessException {
+        setter.setAccessible(true);
+        return LOOKUP.unreflect(setter);
     }
 
     /**
@@ -164,41 +202,6 @@ public class PropertyUtils {
     public static void setProperty(Object bean, String field, Object value) {
         INSTANCE.checkParameters(bean, field);
 
-        try {
-            INSTANCE.setPropertyValue(bean, field, value);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private void setPropertyValue(Object bean, String fieldName, Object value)
-        throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        Field foundField = findField(bean, fieldName);
-
-        if (foundField != null) {
-            if ( !Modifier.isPublic(foundField.getModifiers())) {
-                Method setter = getSetter(bean, foundField.getName(), foundField.getType());
-                setter.invoke(bean, value);
-            } else {
-                foundField.set(bean, value);
-            }
-        } else {
-            Method getter = findGetter(bean, fieldName);
-            if (getter == null) {
-                throw new RuntimeException(
-                    String.format("Cannot find an getter for %s.%s", bean.getClass().getCanonicalName(), fieldName));
-            }
-            String getterFieldName = getGetterFieldName(getter);
-            Method setter = getSetter(bean, getterFieldName, getter.getReturnType());
-            setter.invoke(bean, value);
-        }
-    }
-
-    private Method getSetter(Object bean, String fieldName, Class<?> fieldType) throws NoSuchMethodException {
-        Class<?> beanClass = bean.getClass();
-
-        String upperCaseName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-
-        return beanClass.getMethod("set" + upperCaseName, fieldType);
+        getPropertyAccessor(bean.getClass(), field).set(bean, value);
     }
 }
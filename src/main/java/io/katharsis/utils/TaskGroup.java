@@ -0,0 +1,254 @@
+package io.katharsis.utils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs independent tasks of a single request concurrently. A group is bound to a thread which processes a request
+ * using {@link #call(Callable)} and can be obtained by code called by the request using {@link #current()}. If no
+ * group is bound, tasks are run one by one on the calling thread.
+ * <p>
+ * At most <i>maxConcurrency</i> tasks of a group are run at the same time, counting the thread which processes the
+ * request. Tasks passed to {@link #runAll(List)} don't outlive the call: if any of them fails, the tasks which haven't
+ * started are skipped, the threads running the other tasks are interrupted and the failure is rethrown once all of
+ * the started tasks have finished.
+ */
+public final class TaskGroup {
+
+    private static final TaskGroup SEQUENTIAL = new TaskGroup(Runnable::run, 1);
+    private static final ThreadLocal<TaskGroup> CURRENT = new ThreadLocal<>();
+
+    private final Executor executor;
+    private final Semaphore permits;
+
+    /**
+     * @param executor       executor the tasks are run on
+     * @param maxConcurrency maximum number of tasks run at the same time
+     */
+    public TaskGroup(Executor executor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrency - 1);
+    }
+
+    /**
+     * @return group bound to the current thread or a group which runs tasks on the calling thread
+     */
+    public static TaskGroup current() {
+        TaskGroup group = CURRENT.get();
+        return group != null ? group : SEQUENTIAL;
+    }
+
+    /**
+     * Calls the code with the group bound to the current thread.
+     *
+     * @param callable code to be called
+     * @param <T>      type of the result
+     * @return result of the code
+     * @throws Exception exception thrown by the code
+     */
+    public <T> T call(Callable<T> callable) throws Exception {
+        TaskGroup previous = enter();
+        try {
+            return callable.call();
+        } finally {
+            exit(previous);
+        }
+    }
+
+    /**
+     * @param runnable code to be run
+     * @return code which is run with the group bound to the thread running it
+     */
+    public Runnable bind(Runnable runnable) {
+        return () -> {
+            TaskGroup previous = enter();
+            try {
+                runnable.run();
+            } finally {
+                exit(previous);
+            }
+        };
+    }
+
+    private TaskGroup enter() {
+        TaskGroup previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    private static void exit(TaskGroup previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Runs the tasks and waits for all of them to finish. The calling thread runs tasks as well, so the tasks are
+     * completed even if no more tasks can be run concurrently.
+     *
+     * @param tasks tasks to be run
+     * @throws RuntimeException the first exception thrown by any of the tasks
+     */
+    public void runAll(List<? extends Runnable> tasks) {
+        if (tasks.size() < 2 || this == SEQUENTIAL) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+
+        Invocation invocation = new Invocation(tasks);
+        int helpers = 0;
+        while (helpers < tasks.size() - 1 && permits.tryAcquire()) {
+            helpers++;
+        }
+        for (int i = 0; i < helpers; i++) {
+            Runnable helper = bind(() -> {
+                if (invocation.startHelper()) {
+                    try {
+                        invocation.work();
+                    } finally {
+                        permits.release();
+                        invocation.finishHelper();
+                    }
+                }
+            });
+            try {
+                executor.execute(helper);
+            } catch (RejectedExecutionException e) {
+                // the helper never starts, so it is withdrawn along with the queued ones
+            }
+        }
+        invocation.work();
+
+        // helpers still queued on the executor are withdrawn, otherwise a bounded executor whose threads wait here
+        // would never run them
+        permits.release(helpers - invocation.close());
+        boolean interrupted = false;
+        while (true) {
+            try {
+                invocation.awaitHelpers();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+                invocation.cancel();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        invocation.rethrow();
+    }
+
+    /**
+     * A single call to {@link #runAll(List)}. Tasks are taken one by one by the threads working on the call.
+     */
+    private static final class Invocation {
+        private final List<? extends Runnable> tasks;
+        private final AtomicInteger nextTask = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final Set<Thread> workingThreads = new HashSet<>();
+        private final Set<Thread> interruptedThreads = new HashSet<>();
+        private volatile boolean cancelled;
+        private boolean closed;
+        private int startedHelpers;
+        private int runningHelpers;
+
+        Invocation(List<? extends Runnable> tasks) {
+            this.tasks = tasks;
+        }
+
+        /**
+         * @return <i>false</i> if the helper has been withdrawn and must not work on the tasks
+         */
+        synchronized boolean startHelper() {
+            if (closed) {
+                return false;
+            }
+            startedHelpers++;
+            runningHelpers++;
+            return true;
+        }
+
+        synchronized void finishHelper() {
+            runningHelpers--;
+            notifyAll();
+        }
+
+        /**
+         * Withdraws helpers which haven't started yet.
+         *
+         * @return number of helpers which have started
+         */
+        synchronized int close() {
+            closed = true;
+            return startedHelpers;
+        }
+
+        synchronized void awaitHelpers() throws InterruptedException {
+            while (runningHelpers > 0) {
+                wait();
+            }
+        }
+
+        void work() {
+            Thread thread = Thread.currentThread();
+            synchronized (this) {
+                workingThreads.add(thread);
+            }
+            try {
+                int index;
+                while (!cancelled && (index = nextTask.getAndIncrement()) < tasks.size()) {
+                    try {
+                        tasks.get(index).run();
+                    } catch (Throwable e) {
+                        if (failure.compareAndSet(null, e)) {
+                            cancel();
+                        }
+                    }
+                }
+            } finally {
+                synchronized (this) {
+                    workingThreads.remove(thread);
+                    if (interruptedThreads.remove(thread)) {
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Skips the tasks which haven't started and interrupts the threads running the other tasks. Interrupts are
+         * cleared once the threads stop working on the tasks.
+         */
+        synchronized void cancel() {
+            cancelled = true;
+            for (Thread thread : workingThreads) {
+                if (thread != Thread.currentThread() && interruptedThreads.add(thread)) {
+                    thread.interrupt();
+                }
+            }
+        }
+
+        void rethrow() {
+            Throwable e = failure.get();
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            } else if (e instanceof Error) {
+                throw (Error) e;
+            } else if (e != null) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
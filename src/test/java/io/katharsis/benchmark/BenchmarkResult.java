@@ -0,0 +1,76 @@
+package io.katharsis.benchmark;
+
+import java.util.Map;
+
+/**
+ * Result of a single benchmark for one set of parameters. Times are in nanoseconds and allocations in bytes, both per
+ * operation. Allocations are summed over all live threads, so work done on the fork-join pool is included.
+ */
+public final class BenchmarkResult {
+
+    private final String benchmark;
+    private final Map<String, Object> params;
+    private final int iterations;
+    private final long operationsPerIteration;
+    private final double firstNanosPerOperation;
+    private final double meanNanosPerOperation;
+    private final double minNanosPerOperation;
+    private final double bytesPerOperation;
+
+    BenchmarkResult(String benchmark, Map<String, Object> params, int iterations, long operationsPerIteration,
+                    double firstNanosPerOperation, double meanNanosPerOperation, double minNanosPerOperation,
+                    double bytesPerOperation) {
+        this.benchmark = benchmark;
+        this.params = params;
+        this.iterations = iterations;
+        this.operationsPerIteration = operationsPerIteration;
+        this.firstNanosPerOperation = firstNanosPerOperation;
+        this.meanNanosPerOperation = meanNanosPerOperation;
+        this.minNanosPerOperation = minNanosPerOperation;
+        this.bytesPerOperation = bytesPerOperation;
+    }
+
+    public String getBenchmark() {
+        return benchmark;
+    }
+
+    public Map<String, Object> getParams() {
+        return params;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getOperationsPerIteration() {
+        return operationsPerIteration;
+    }
+
+    /**
+     * @return time of the first measured iteration, which for startup benchmarks includes class loading
+     */
+    public double getFirstNanosPerOperation() {
+        return firstNanosPerOperation;
+    }
+
+    public double getMeanNanosPerOperation() {
+        return meanNanosPerOperation;
+    }
+
+    public double getMinNanosPerOperation() {
+        return minNanosPerOperation;
+    }
+
+    /**
+     * @return allocated bytes per operation or a negative value if the JVM doesn't support allocation measurement
+     */
+    public double getBytesPerOperation() {
+        return bytesPerOperation;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-40s %-30s mean %14.1f ns/op  min %14.1f ns/op  %14.1f B/op", benchmark, params,
+            meanNanosPerOperation, minNanosPerOperation, bytesPerOperation);
+    }
+}
@@ -0,0 +1,148 @@
+package io.katharsis.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Minimal measurement harness shared by the benchmark suites. A suite is a JUnit class whose name doesn't match the
+ * Surefire test patterns, so it runs only when requested, e.g. <i>mvn test -Dtest=StartupBenchmark</i>. The harness
+ * is configured with system properties:
+ * <ul>
+ * <li><i>benchmark.sizes</i> - comma separated registry sizes,</li>
+ * <li><i>benchmark.warmups</i> - number of not measured iterations,</li>
+ * <li><i>benchmark.iterations</i> - number of measured iterations.</li>
+ * </ul>
+ * Results are printed and written as JSON to <i>target/benchmarks/{suite}.json</i>.
+ */
+final class Benchmarks {
+
+    private static final String RESULTS_DIRECTORY = "target/benchmarks";
+
+    /**
+     * Consumes results of operations, so they are not eliminated by the JIT compiler.
+     */
+    private static volatile int sink;
+
+    private Benchmarks() {
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        Object run() throws Exception;
+    }
+
+    static List<Integer> getSizes(String defaultSizes) {
+        return Arrays.stream(System.getProperty("benchmark.sizes", defaultSizes).split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .collect(Collectors.toList());
+    }
+
+    static int getWarmups(int defaultWarmups) {
+        return Integer.getInteger("benchmark.warmups", defaultWarmups);
+    }
+
+    static int getIterations(int defaultIterations) {
+        return Integer.getInteger("benchmark.iterations", defaultIterations);
+    }
+
+    /**
+     * Runs an operation in iterations and measures the time and allocations of each measured iteration.
+     *
+     * @param benchmark              name of the benchmark
+     * @param params                 parameters of the run, e.g. size of the registry
+     * @param warmups                number of not measured iterations
+     * @param iterations             number of measured iterations
+     * @param operationsPerIteration number of operation calls in an iteration
+     * @param operation              measured operation
+     * @return measured values
+     */
+    static BenchmarkResult measure(String benchmark, Map<String, Object> params, int warmups, int iterations,
+                                   long operationsPerIteration, Operation operation) throws Exception {
+        for (int i = 0; i < warmups; i++) {
+            runIteration(operationsPerIteration, operation);
+        }
+
+        double first = 0;
+        double total = 0;
+        double min = Double.MAX_VALUE;
+        long allocatedBytes = 0;
+        for (int i = 0; i < iterations; i++) {
+            long allocatedBefore = getAllocatedBytes();
+            long start = System.nanoTime();
+            runIteration(operationsPerIteration, operation);
+            double nanosPerOperation = (System.nanoTime() - start) / (double) operationsPerIteration;
+            allocatedBytes += getAllocatedBytes() - allocatedBefore;
+
+            if (i == 0) {
+                first = nanosPerOperation;
+            }
+            total += nanosPerOperation;
+            min = Math.min(min, nanosPerOperation);
+        }
+        double bytesPerOperation = getAllocatedBytes() < 0 ? -1 :
+            Math.max(allocatedBytes, 0) / (double) (operationsPerIteration * iterations);
+        BenchmarkResult result = new BenchmarkResult(benchmark, params, iterations, operationsPerIteration, first,
+            total / iterations, min, bytesPerOperation);
+        System.out.println(result);
+        return result;
+    }
+
+    private static void runIteration(long operationsPerIteration, Operation operation) throws Exception {
+        int hash = 0;
+        for (long i = 0; i < operationsPerIteration; i++) {
+            Object result = operation.run();
+            hash += result != null ? System.identityHashCode(result) : 0;
+        }
+        sink += hash;
+    }
+
+    /**
+     * @return bytes allocated by all live threads or a negative value if not supported
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        long total = 0;
+        for (long allocated : allocationBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Writes results of a suite as a JSON array.
+     *
+     * @param suite   name of the suite, used as a file name
+     * @param results results of the suite
+     * @return written file
+     */
+    static File writeResults(String suite, List<BenchmarkResult> results) throws IOException {
+        File directory = new File(RESULTS_DIRECTORY);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        File file = new File(directory, suite + ".json");
+        new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(file, results);
+        return file;
+    }
+}
@@ -0,0 +1,139 @@
+package io.katharsis.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.registry.ControllerRegistry;
+import io.katharsis.dispatcher.registry.ControllerRegistryBuilder;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryBuilder;
+import io.katharsis.locator.SampleJsonServiceLocator;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryBuilder;
+import io.katharsis.utils.parser.TypeParser;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures operations done on each request against registries of {@link SyntheticResources} of growing size:
+ * resolving a resource type, building a {@link JsonPath}, finding a controller and finding an exception mapper.
+ * Operations cycle over all resources, so a lookup cost that depends on the registry size shows up in the results.
+ * See {@link Benchmarks} for configuration; results are written to <i>target/benchmarks/request-scaling.json</i>.
+ */
+public class RequestScalingBenchmark {
+
+    private static final String SERVICE_URL = "https://service.local";
+    private static final int OPERATIONS_PER_ITERATION = 100_000;
+
+    @Test
+    public void run() throws Exception {
+        int warmups = Benchmarks.getWarmups(3);
+        int iterations = Benchmarks.getIterations(5);
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (int size : Benchmarks.getSizes("10,100,1000,5000")) {
+            SyntheticResources resources = SyntheticResources.generate(size);
+            Fixture fixture = new Fixture(resources);
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("resources", size);
+            params.put("relationships", fixture.relationshipCount);
+            params.put("exceptionMappers", fixture.mapperCount);
+
+            Cycle cycle = new Cycle();
+            results.add(Benchmarks.measure("ResourceRegistry.getEntry", params, warmups, iterations,
+                OPERATIONS_PER_ITERATION, () -> fixture.resourceRegistry.getEntry(fixture.types[cycle.next(fixture.types.length)])));
+            results.add(Benchmarks.measure("PathBuilder.buildPath", params, warmups, iterations,
+                OPERATIONS_PER_ITERATION, () -> fixture.pathBuilder.buildPath(fixture.paths[cycle.next(fixture.paths.length)])));
+            results.add(Benchmarks.measure("ControllerRegistry.getController", params, warmups, iterations,
+                OPERATIONS_PER_ITERATION, () -> {
+                    int i = cycle.next(fixture.jsonPaths.length);
+                    return fixture.controllerRegistry.getController(fixture.jsonPaths[i], fixture.methods[i]);
+                }));
+            results.add(Benchmarks.measure("ExceptionMapperRegistry.findMapperFor", params, warmups, iterations,
+                OPERATIONS_PER_ITERATION,
+                () -> fixture.exceptionMapperRegistry.findMapperFor(fixture.exceptionClasses[cycle.next(
+                    fixture.exceptionClasses.length)])));
+        }
+        Benchmarks.writeResults("request-scaling", results);
+    }
+
+    private static final class Fixture {
+        private final ResourceRegistry resourceRegistry;
+        private final PathBuilder pathBuilder;
+        private final ControllerRegistry controllerRegistry;
+        private final ExceptionMapperRegistry exceptionMapperRegistry;
+        private final String[] types;
+        private final String[] paths;
+        private final JsonPath[] jsonPaths;
+        private final String[] methods;
+        private final Class<? extends Throwable>[] exceptionClasses;
+        private final int relationshipCount;
+        private final int mapperCount;
+
+        @SuppressWarnings("unchecked")
+        Fixture(SyntheticResources resources) throws Exception {
+            int size = resources.getSize();
+            Thread thread = Thread.currentThread();
+            ClassLoader previousClassLoader = thread.getContextClassLoader();
+            ClassLoader classLoader = resources.newIndexedClassLoader();
+            thread.setContextClassLoader(classLoader);
+            try {
+                resourceRegistry = new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
+                    new ResourceInformationBuilder(new ResourceFieldNameTransformer()))
+                    .build(SyntheticResources.PACKAGE_NAME, SERVICE_URL);
+                exceptionMapperRegistry = new ExceptionMapperRegistryBuilder().build(SyntheticResources.PACKAGE_NAME);
+            } finally {
+                thread.setContextClassLoader(previousClassLoader);
+            }
+            pathBuilder = new PathBuilder(resourceRegistry);
+            controllerRegistry = new ControllerRegistryBuilder(resourceRegistry, new TypeParser(), new ObjectMapper())
+                .build();
+
+            types = new String[size];
+            paths = new String[size * 4];
+            for (int i = 0; i < size; i++) {
+                types[i] = "resource" + i;
+                paths[i * 4] = "/resource" + i;
+                paths[i * 4 + 1] = "/resource" + i + "/1";
+                paths[i * 4 + 2] = "/resource" + i + "/1/next";
+                paths[i * 4 + 3] = "/resource" + i + "/1/relationships/previous";
+            }
+            relationshipCount = size * 2;
+
+            String[] requestMethods = {"GET", "GET", "GET", "PATCH"};
+            jsonPaths = new JsonPath[paths.length];
+            methods = new String[paths.length];
+            for (int i = 0; i < paths.length; i++) {
+                jsonPaths[i] = pathBuilder.buildPath(paths[i]);
+                methods[i] = requestMethods[i % requestMethods.length];
+            }
+
+            mapperCount = (size + SyntheticResources.RESOURCES_PER_EXCEPTION_MAPPER - 1)
+                / SyntheticResources.RESOURCES_PER_EXCEPTION_MAPPER;
+            exceptionClasses = new Class[mapperCount + 1];
+            for (int i = 0; i < mapperCount; i++) {
+                exceptionClasses[i] = (Class<? extends Throwable>) Class.forName(SyntheticResources.PACKAGE_NAME
+                    + ".Resource" + (i * SyntheticResources.RESOURCES_PER_EXCEPTION_MAPPER)
+                    + "ExceptionMapper$Failure", false, classLoader);
+            }
+            exceptionClasses[mapperCount] = IllegalStateException.class;
+        }
+    }
+
+    /**
+     * Cyclic index over benchmark inputs.
+     */
+    private static final class Cycle {
+        private int position;
+
+        int next(int bound) {
+            position = position + 1 < bound ? position + 1 : 0;
+            return position;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryBuilder;
+import io.katharsis.jackson.JsonApiModuleBuilder;
+import io.katharsis.locator.SampleJsonServiceLocator;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryBuilder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures building of {@link ResourceRegistry}, exception mappers and the Jackson module for packages of
+ * {@link SyntheticResources} of growing size, both with classpath scanning and with a generated resource index. Each
+ * registry build uses a new class loader, so classes are loaded and introspected again as on a cold start. See
+ * {@link Benchmarks} for configuration; results are written to <i>target/benchmarks/startup.json</i>.
+ */
+public class StartupBenchmark {
+
+    private static final String SERVICE_URL = "https://service.local";
+
+    @Test
+    public void run() throws Exception {
+        int warmups = Benchmarks.getWarmups(1);
+        int iterations = Benchmarks.getIterations(3);
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (int size : Benchmarks.getSizes("10,100,1000,5000")) {
+            SyntheticResources resources = SyntheticResources.generate(size);
+            for (boolean indexed : new boolean[]{false, true}) {
+                Map<String, Object> params = new LinkedHashMap<>();
+                params.put("resources", size);
+                params.put("mode", indexed ? "index" : "scan");
+
+                results.add(Benchmarks.measure("ResourceRegistryBuilder.build", params, warmups, iterations, 1,
+                    () -> withClassLoader(resources, indexed, StartupBenchmark::buildRegistry)));
+                results.add(Benchmarks.measure("ExceptionMapperRegistryBuilder.build", params, warmups, iterations, 1,
+                    () -> withClassLoader(resources, indexed,
+                        () -> new ExceptionMapperRegistryBuilder().build(SyntheticResources.PACKAGE_NAME))));
+            }
+
+            ResourceRegistry resourceRegistry = withClassLoader(resources, true, StartupBenchmark::buildRegistry);
+            assertThat(resourceRegistry.getEntry("resource0")).isNotNull();
+            results.add(Benchmarks.measure("JsonApiModuleBuilder.build", Collections.singletonMap("resources", size),
+                warmups, iterations, 100, () -> new JsonApiModuleBuilder().build(resourceRegistry)));
+        }
+        Benchmarks.writeResults("startup", results);
+    }
+
+    private static ResourceRegistry buildRegistry() {
+        return new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
+            new ResourceInformationBuilder(new ResourceFieldNameTransformer()))
+            .build(SyntheticResources.PACKAGE_NAME, SERVICE_URL);
+    }
+
+    private static <T> T withClassLoader(SyntheticResources resources, boolean indexed, Callable<T> callable)
+        throws Exception {
+        ClassLoader classLoader = indexed ? resources.newIndexedClassLoader() : resources.newScanningClassLoader();
+        Thread thread = Thread.currentThread();
+        ClassLoader previousClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return callable.call();
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.errorhandling.mapper.JsonApiExceptionMapper;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.resource.processor.ResourceIndexProcessor;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates and compiles a package of synthetic resources. Each resource <i>Resource{i}</i> has an id, two attributes,
+ * a to-one relationship to the next resource and a to-many relationship to the previous one, a
+ * {@link ResourceRepository} and a relationship repository for each relationship. Every tenth resource comes with an
+ * exception mapper.
+ */
+final class SyntheticResources {
+
+    static final String PACKAGE_NAME = "io.katharsis.benchmark.generated";
+    static final int RESOURCES_PER_EXCEPTION_MAPPER = 10;
+
+    private final int size;
+    private final File classesDirectory;
+    private final File indexDirectory;
+
+    private SyntheticResources(int size, File classesDirectory, File indexDirectory) {
+        this.size = size;
+        this.classesDirectory = classesDirectory;
+        this.indexDirectory = indexDirectory;
+    }
+
+    /**
+     * Generates sources of the resources in a temporary directory, compiles them and generates a resource index using
+     * {@link ResourceIndexProcessor}.
+     *
+     * @param size number of resources
+     * @return compiled resources
+     */
+    static SyntheticResources generate(int size) throws IOException {
+        Path root = Files.createTempDirectory("katharsis-benchmark-" + size);
+        Path sourceDirectory = root.resolve("sources").resolve(PACKAGE_NAME.replace('.', File.separatorChar));
+        Files.createDirectories(sourceDirectory);
+        List<File> sources = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int next = (i + 1) % size;
+            int previous = (i + size - 1) % size;
+            sources.add(write(sourceDirectory, "Resource" + i, resourceSource(i, next, previous)));
+            sources.add(write(sourceDirectory, "Resource" + i + "Repository", resourceRepositorySource(i)));
+            sources.add(write(sourceDirectory, "Resource" + i + "ToResource" + next + "Repository",
+                relationshipRepositorySource(i, next)));
+            if (previous != next) {
+                sources.add(write(sourceDirectory, "Resource" + i + "ToResource" + previous + "Repository",
+                    relationshipRepositorySource(i, previous)));
+            }
+            if (i % RESOURCES_PER_EXCEPTION_MAPPER == 0) {
+                sources.add(write(sourceDirectory, "Resource" + i + "ExceptionMapper", exceptionMapperSource(i)));
+            }
+        }
+
+        File classesDirectory = Files.createDirectories(root.resolve("classes")).toFile();
+        File indexDirectory = Files.createDirectories(root.resolve("index")).toFile();
+        compile(sources, Arrays.asList("-proc:none", "-d", classesDirectory.getPath()));
+        compile(sources, Arrays.asList("-proc:only", "-processor", ResourceIndexProcessor.class.getName(),
+            "-d", indexDirectory.getPath()));
+        return new SyntheticResources(size, classesDirectory, indexDirectory);
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * @return class loader of the compiled classes without a resource index, so the classpath has to be scanned
+     */
+    ClassLoader newScanningClassLoader() throws IOException {
+        return new URLClassLoader(new URL[]{classesDirectory.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    /**
+     * @return class loader of the compiled classes and the generated resource index
+     */
+    ClassLoader newIndexedClassLoader() throws IOException {
+        return new URLClassLoader(new URL[]{classesDirectory.toURI().toURL(), indexDirectory.toURI().toURL()},
+            getClass().getClassLoader());
+    }
+
+    private static File write(Path directory, String className, String source) throws IOException {
+        Path file = directory.resolve(className + ".java");
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+
+    private static void compile(List<File> sources, List<String> options) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> allOptions = new ArrayList<>(options);
+        allOptions.addAll(Arrays.asList("-classpath", System.getProperty("java.class.path") + File.pathSeparator
+            + classPathOf(ResourceRepository.class, JsonApiExceptionMapper.class)));
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(sources);
+            if (!compiler.getTask(null, fileManager, null, allOptions, null, compilationUnits).call()) {
+                throw new IllegalStateException("Cannot compile synthetic resources");
+            }
+        }
+    }
+
+    private static String classPathOf(Class<?>... classes) {
+        return Stream.of(classes)
+            .map(clazz -> new File(clazz.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath())
+            .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static String resourceSource(int i, int next, int previous) {
+        return "package " + PACKAGE_NAME + ";\n"
+            + "import io.katharsis.resource.annotations.*;\n"
+            + "import java.util.List;\n"
+            + "@JsonApiResource(type = \"resource" + i + "\")\n"
+            + "public class Resource" + i + " {\n"
+            + "    @JsonApiId private Long id;\n"
+            + "    private String name;\n"
+            + "    private int value;\n"
+            + "    @JsonApiToOne private Resource" + next + " next;\n"
+            + "    @JsonApiToMany private List<Resource" + previous + "> previous;\n"
+            + "    public Long getId() { return id; }\n"
+            + "    public void setId(Long id) { this.id = id; }\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "    public int getValue() { return value; }\n"
+            + "    public void setValue(int value) { this.value = value; }\n"
+            + "    public Resource" + next + " getNext() { return next; }\n"
+            + "    public void setNext(Resource" + next + " next) { this.next = next; }\n"
+            + "    public List<Resource" + previous + "> getPrevious() { return previous; }\n"
+            + "    public void setPrevious(List<Resource" + previous + "> previous) { this.previous = previous; }\n"
+            + "}\n";
+    }
+
+    private static String resourceRepositorySource(int i) {
+        String resource = "Resource" + i;
+        return "package " + PACKAGE_NAME + ";\n"
+            + "import io.katharsis.queryParams.RequestParams;\n"
+            + "import io.katharsis.repository.ResourceRepository;\n"
+            + "public class " + resource + "Repository implements ResourceRepository<" + resource + ", Long> {\n"
+            + "    public " + resource + " findOne(Long id, RequestParams requestParams) { return null; }\n"
+            + "    public Iterable<" + resource + "> findAll(RequestParams requestParams) { return null; }\n"
+            + "    public Iterable<" + resource + "> findAll(Iterable<Long> ids, RequestParams requestParams) {"
+            + " return null; }\n"
+            + "    public <S extends " + resource + "> S save(S entity) { return entity; }\n"
+            + "    public void delete(Long id) { }\n"
+            + "}\n";
+    }
+
+    private static String relationshipRepositorySource(int source, int target) {
+        String sourceClass = "Resource" + source;
+        String targetClass = "Resource" + target;
+        return "package " + PACKAGE_NAME + ";\n"
+            + "import io.katharsis.queryParams.RequestParams;\n"
+            + "import io.katharsis.repository.RelationshipRepository;\n"
+            + "public class " + sourceClass + "To" + targetClass + "Repository implements RelationshipRepository<"
+            + sourceClass + ", Long, " + targetClass + ", Long> {\n"
+            + "    public void setRelation(" + sourceClass + " source, Long targetId, String fieldName) { }\n"
+            + "    public void setRelations(" + sourceClass + " source, Iterable<Long> targetIds, String fieldName) { }\n"
+            + "    public void addRelations(" + sourceClass + " source, Iterable<Long> targetIds, String fieldName) { }\n"
+            + "    public void removeRelations(" + sourceClass + " source, Iterable<Long> targetIds, String fieldName) { }\n"
+            + "    public " + targetClass + " findOneTarget(Long sourceId, String fieldName, RequestParams requestParams) {"
+            + " return null; }\n"
+            + "    public Iterable<" + targetClass + "> findManyTargets(Long sourceId, String fieldName,"
+            + " RequestParams requestParams) { return null; }\n"
+            + "}\n";
+    }
+
+    private static String exceptionMapperSource(int i) {
+        String mapper = "Resource" + i + "ExceptionMapper";
+        return "package " + PACKAGE_NAME + ";\n"
+            + "import io.katharsis.errorhandling.ErrorResponse;\n"
+            + "import io.katharsis.errorhandling.mapper.ExceptionMapperProvider;\n"
+            + "import io.katharsis.errorhandling.mapper.JsonApiExceptionMapper;\n"
+            + "@ExceptionMapperProvider\n"
+            + "public class " + mapper + " implements JsonApiExceptionMapper<" + mapper + ".Failure> {\n"
+            + "    public ErrorResponse toErrorResponse(Failure exception) { return null; }\n"
+            + "    public static class Failure extends RuntimeException { }\n"
+            + "}\n";
+    }
+}
@@ -0,0 +1,157 @@
+package io.katharsis.dispatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathIds;
+import io.katharsis.request.path.ResourcePath;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.ResourceResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoalescingControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExecutorService executor;
+    private CountDownLatch release;
+    private AtomicInteger handledRequests;
+    private BaseController controller;
+    private CoalescingController sut;
+
+    @Before
+    public void prepare() {
+        executor = Executors.newCachedThreadPool();
+        release = new CountDownLatch(1);
+        handledRequests = new AtomicInteger();
+        controller = new BaseController() {
+            @Override
+            public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+                return true;
+            }
+
+            @Override
+            public BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody)
+                throws Exception {
+                handledRequests.incrementAndGet();
+                assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+                return new ResourceResponse(null);
+            }
+        };
+        sut = new CoalescingController(controller);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void onConcurrentIdenticalRequestsShouldShareResponse() throws Exception {
+        // GIVEN
+        Future<BaseResponse<?>> first = executor.submit(() -> sut.handle(path("1"), new RequestParams(objectMapper), null));
+        waitForHandledRequests(1);
+
+        // WHEN
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+        Future<BaseResponse<?>> second = executor.submit(() -> {
+            secondThread.set(Thread.currentThread());
+            return sut.handle(path("1"), new RequestParams(objectMapper), null);
+        });
+        waitForWaitingThread(secondThread);
+        release.countDown();
+
+        // THEN
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(handledRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void onConcurrentDifferentRequestsShouldHandleEachRequest() throws Exception {
+        // GIVEN
+        Future<BaseResponse<?>> first = executor.submit(() -> sut.handle(path("1"), new RequestParams(objectMapper), null));
+        waitForHandledRequests(1);
+
+        // WHEN
+        Future<BaseResponse<?>> second = executor.submit(() -> sut.handle(path("2"), new RequestParams(objectMapper), null));
+        waitForHandledRequests(2);
+        release.countDown();
+
+        // THEN
+        assertThat(second.get()).isNotSameAs(first.get());
+        assertThat(handledRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void onSequentialIdenticalRequestsShouldHandleEachRequest() throws Exception {
+        // GIVEN
+        release.countDown();
+
+        // WHEN
+        sut.handle(path("1"), new RequestParams(objectMapper), null);
+        sut.handle(path("1"), new RequestParams(objectMapper), null);
+
+        // THEN
+        assertThat(handledRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void onConcurrentIdenticalRequestsWithDifferentQualifiersShouldHandleEachRequest() throws Exception {
+        // GIVEN
+        ThreadLocal<String> tenant = new ThreadLocal<>();
+        sut = new CoalescingController(controller, tenant::get);
+        Future<BaseResponse<?>> first = executor.submit(() -> {
+            tenant.set("first");
+            return sut.handle(path("1"), new RequestParams(objectMapper), null);
+        });
+        waitForHandledRequests(1);
+
+        // WHEN
+        Future<BaseResponse<?>> second = executor.submit(() -> {
+            tenant.set("second");
+            return sut.handle(path("1"), new RequestParams(objectMapper), null);
+        });
+        waitForHandledRequests(2);
+        release.countDown();
+
+        // THEN
+        assertThat(second.get()).isNotSameAs(first.get());
+        assertThat(handledRequests.get()).isEqualTo(2);
+    }
+
+    private static JsonPath path(String id) {
+        ResourcePath path = new ResourcePath("tasks");
+        path.setIds(new PathIds(id));
+        return path;
+    }
+
+    private static void waitForWaitingThread(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while ((thread.get() == null || thread.get().getState() != Thread.State.WAITING)
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(thread.get().getState()).isEqualTo(Thread.State.WAITING);
+    }
+
+    private void waitForHandledRequests(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (handledRequests.get() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(handledRequests.get()).isEqualTo(count);
+    }
+}
@@ -1,12 +1,14 @@
 package io.katharsis.dispatcher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.BaseController;
 import io.katharsis.dispatcher.controller.collection.CollectionGet;
 import io.katharsis.dispatcher.registry.ControllerRegistry;
 import io.katharsis.errorhandling.ErrorResponse;
 import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryTest;
 import io.katharsis.locator.SampleJsonServiceLocator;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathBuilder;
 import io.katharsis.resource.field.ResourceFieldNameTransformer;
@@ -17,11 +19,18 @@ import io.katharsis.resource.registry.ResourceRegistryBuilderTest;
 import io.katharsis.resource.registry.ResourceRegistryTest;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.HttpStatus;
+import org.hamcrest.CoreMatchers;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -96,4 +105,88 @@ public class RequestDispatcherTest {
 
         BaseResponse<?> response = requestDispatcher.dispatchRequest(null, null, null, null);
     }
+
+    @Test
+    public void onGivenPathAndRequestTypeControllerShouldHandleRequestOnExecutor() throws Exception {
+        // GIVEN
+        String path = "/tasks/";
+        String requestType = "GET";
+
+        PathBuilder pathBuilder = new PathBuilder(resourceRegistry);
+        ControllerRegistry controllerRegistry = new ControllerRegistry(null);
+        AtomicInteger handledRequests = new AtomicInteger();
+        controllerRegistry.addController(new BaseController() {
+            @Override
+            public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+                return true;
+            }
+
+            @Override
+            public BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RequestBody requestBody) {
+                handledRequests.incrementAndGet();
+                return null;
+            }
+        });
+        List<Runnable> tasks = new ArrayList<>();
+        RequestDispatcher sut = new RequestDispatcher(controllerRegistry, null, tasks::add);
+
+        // WHEN
+        JsonPath jsonPath = pathBuilder.buildPath(path);
+        CompletionStage<BaseResponse<?>> response = sut.dispatchRequestAsync(jsonPath, requestType,
+            new RequestParams(new ObjectMapper()), null);
+
+        // THEN
+        assertThat(handledRequests.get()).isEqualTo(0);
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(handledRequests.get()).isEqualTo(1);
+        assertThat(response.toCompletableFuture().isDone()).isTrue();
+    }
+
+    @Test
+    public void shouldMapExceptionToErrorResponseIfMapperIsAvailableOnAsyncDispatch() throws Exception {
+        ControllerRegistry controllerRegistry = mock(ControllerRegistry.class);
+        //noinspection unchecked
+        when(controllerRegistry.getController(any(JsonPath.class), anyString())).thenThrow(IllegalStateException.class);
+
+        RequestDispatcher requestDispatcher = new RequestDispatcher(controllerRegistry,
+            ExceptionMapperRegistryTest.exceptionMapperRegistry, Runnable::run);
+
+        BaseResponse<?> response = requestDispatcher.dispatchRequestAsync(null, null, null, null)
+            .toCompletableFuture()
+            .get();
+        assertThat(response)
+            .isNotNull()
+            .isExactlyInstanceOf(ErrorResponse.class);
+
+        ErrorResponse errorResponse = (ErrorResponse) response;
+        assertThat(errorResponse.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST_400);
+    }
+
+    @Test
+    public void shouldCompleteWithExceptionIfMapperIsNotAvailableOnAsyncDispatch() throws Exception {
+        ControllerRegistry controllerRegistry = mock(ControllerRegistry.class);
+        //noinspection unchecked
+        when(controllerRegistry.getController(any(JsonPath.class), anyString())).thenThrow(ArithmeticException.class);
+
+        RequestDispatcher requestDispatcher = new RequestDispatcher(controllerRegistry,
+            ExceptionMapperRegistryTest.exceptionMapperRegistry, Runnable::run);
+
+        expectedException.expect(ExecutionException.class);
+        expectedException.expectCause(CoreMatchers.isA(ArithmeticException.class));
+
+        requestDispatcher.dispatchRequestAsync(null, null, null, null).toCompletableFuture().get();
+    }
+
+    @Test
+    public void onDispatcherWithoutExecutorAsyncDispatchShouldThrowException() throws Exception {
+        // GIVEN
+        RequestDispatcher sut = new RequestDispatcher(new ControllerRegistry(null), null);
+
+        // THEN
+        expectedException.expect(IllegalStateException.class);
+
+        // WHEN
+        sut.dispatchRequestAsync(null, "GET", null, null);
+    }
 }
@@ -0,0 +1,177 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AttributesBinderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ResourceInformationBuilder resourceInformationBuilder = new ResourceInformationBuilder(
+        new ResourceFieldNameTransformer());
+
+    @Test
+    public void onGenericAttributeShouldDecodeDeclaredType() throws Exception {
+        // GIVEN
+        AttributesBinder sut = new AttributesBinder(OBJECT_MAPPER,
+            resourceInformationBuilder.build(GenericResource.class));
+        GenericResource resource = new GenericResource();
+
+        // WHEN
+        boolean modified = sut.bind(OBJECT_MAPPER.readTree("{\"values\": {\"numbers\": [1, 2]}}"), resource);
+
+        // THEN
+        assertThat(modified).isTrue();
+        assertThat(resource.getValues().get("numbers")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void onAttributeWithAnnotatedSetterShouldUseCustomDeserializer() throws Exception {
+        // GIVEN
+        AttributesBinder sut = new AttributesBinder(OBJECT_MAPPER,
+            resourceInformationBuilder.build(CustomizedResource.class));
+        CustomizedResource resource = new CustomizedResource();
+
+        // WHEN
+        sut.bind(OBJECT_MAPPER.readTree("{\"name\": \"sample\"}"), resource);
+
+        // THEN
+        assertThat(resource.getName()).isEqualTo("SAMPLE");
+    }
+
+    @Test
+    public void onAttributeCustomizedByMixInShouldUseCustomDeserializer() throws Exception {
+        // GIVEN
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.addMixIn(PlainResource.class, UpperCaseNameMixIn.class);
+        AttributesBinder sut = new AttributesBinder(objectMapper,
+            resourceInformationBuilder.build(PlainResource.class));
+        PlainResource resource = new PlainResource();
+
+        // WHEN
+        sut.bind(objectMapper.readTree("{\"name\": \"sample\"}"), resource);
+
+        // THEN
+        assertThat(resource.getName()).isEqualTo("SAMPLE");
+    }
+
+    @Test
+    public void onDecodedAttributesShouldReturnValuesByName() throws Exception {
+        // GIVEN
+        ResourceInformation resourceInformation = resourceInformationBuilder.build(CustomizedResource.class);
+        AttributesBinder sut = new AttributesBinder(OBJECT_MAPPER, resourceInformation);
+        JsonNode attributes = OBJECT_MAPPER.readTree("{\"name\": \"sample\"}");
+
+        // WHEN
+        Map<String, Object> values = sut.decode(attributes);
+
+        // THEN
+        assertThat(values).containsEntry("name", "SAMPLE");
+    }
+
+    @JsonApiResource(type = "genericResources")
+    public static class GenericResource {
+
+        @JsonApiId
+        private Long id;
+
+        private Map<String, List<Long>> values;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Map<String, List<Long>> getValues() {
+            return values;
+        }
+
+        public void setValues(Map<String, List<Long>> values) {
+            this.values = values;
+        }
+    }
+
+    @JsonApiResource(type = "customizedResources")
+    public static class CustomizedResource {
+
+        @JsonApiId
+        private Long id;
+
+        private String name;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @JsonDeserialize(using = UpperCaseDeserializer.class)
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @JsonApiResource(type = "plainResources")
+    public static class PlainResource {
+
+        @JsonApiId
+        private Long id;
+
+        private String name;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public interface UpperCaseNameMixIn {
+
+        @JsonDeserialize(using = UpperCaseDeserializer.class)
+        void setName(String name);
+    }
+
+    public static class UpperCaseDeserializer extends JsonDeserializer<String> {
+
+        @Override
+        public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return parser.getValueAsString().toUpperCase();
+        }
+    }
+}
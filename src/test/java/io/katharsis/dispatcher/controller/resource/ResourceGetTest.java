@@ -3,17 +3,36 @@ package io.katharsis.dispatcher.controller.resource;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.dispatcher.controller.BaseControllerTest;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.AsyncResourceRepository;
+import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.dto.ResourceRelationships;
 import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
 import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.registry.LazyRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryTest;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.ResourceResponse;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
 
 public class ResourceGetTest extends BaseControllerTest {
 
@@ -74,4 +93,60 @@ public class ResourceGetTest extends BaseControllerTest {
         // THEN
         Assert.assertNotNull(response);
     }
+
+    @Test
+    public void onAsyncRepositoryResourceGetShouldNotCallBlockingMethod() throws Exception {
+        // GIVEN
+        ResourceRepository<Task, Long> repository = mock(ResourceRepository.class,
+            withSettings().extraInterfaces(AsyncResourceRepository.class));
+        Task task = new Task();
+        task.setId(1L);
+        CompletableFuture<Task> foundTask = new CompletableFuture<>();
+        when(((AsyncResourceRepository<Task, Long>) repository).findOneAsync(eq(1L), any(RequestParams.class)))
+            .thenReturn(foundTask);
+
+        ResourceRegistry asyncResourceRegistry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        asyncResourceRegistry.addEntry(Task.class, new RegistryEntry<>(new ResourceInformationBuilder(
+            new ResourceFieldNameTransformer()).build(Task.class), repository));
+        JsonPath jsonPath = new PathBuilder(asyncResourceRegistry).buildPath("/tasks/1");
+        ResourceGet sut = new ResourceGet(asyncResourceRegistry, typeParser);
+
+        // WHEN
+        CompletionStage<BaseResponse<?>> response = sut.handleAsync(jsonPath, new RequestParams(OBJECT_MAPPER), null,
+            Runnable::run);
+
+        // THEN
+        assertThat(response.toCompletableFuture().isDone()).isFalse();
+        foundTask.complete(task);
+        assertThat(response.toCompletableFuture().get().getData()).isSameAs(task);
+        verify(repository, never()).findOne(any(Long.class), any(RequestParams.class));
+    }
+
+    @Test
+    public void onLazyRepositoryAsyncResourceGetShouldCreateRepositoryOnExecutor() throws Exception {
+        // GIVEN
+        ResourceRepository<Task, Long> repository = mock(ResourceRepository.class);
+        AtomicInteger createdRepositories = new AtomicInteger();
+        LazyRepository<ResourceRepository<Task, ?>> lazyRepository = LazyRepository.of(repository.getClass(), () -> {
+            createdRepositories.incrementAndGet();
+            return repository;
+        });
+        ResourceRegistry lazyResourceRegistry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        lazyResourceRegistry.addEntry(Task.class, RegistryEntry.withLazyRepositories(new ResourceInformationBuilder(
+            new ResourceFieldNameTransformer()).build(Task.class), lazyRepository, Collections.emptyList()));
+        JsonPath jsonPath = new PathBuilder(lazyResourceRegistry).buildPath("/tasks/1");
+        ResourceGet sut = new ResourceGet(lazyResourceRegistry, typeParser);
+        List<Runnable> tasks = new ArrayList<>();
+
+        // WHEN
+        CompletionStage<BaseResponse<?>> response = sut.handleAsync(jsonPath, new RequestParams(OBJECT_MAPPER), null,
+            tasks::add);
+
+        // THEN
+        assertThat(createdRepositories.get()).isEqualTo(0);
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(createdRepositories.get()).isEqualTo(1);
+        assertThat(response.toCompletableFuture().isDone()).isTrue();
+    }
 }
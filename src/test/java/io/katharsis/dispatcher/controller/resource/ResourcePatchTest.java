@@ -3,17 +3,37 @@ package io.katharsis.dispatcher.controller.resource;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.dispatcher.controller.BaseControllerTest;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.PartialUpdateRepository;
+import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.dto.ResourceRelationships;
 import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
 import io.katharsis.request.path.ResourcePath;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
 import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryTest;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.ResourceResponse;
+import io.katharsis.utils.TaskGroup;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
 
 public class ResourcePatchTest extends BaseControllerTest {
 
@@ -92,4 +112,109 @@ public class ResourcePatchTest extends BaseControllerTest {
         assertThat(response.getData()).isExactlyInstanceOf(Task.class);
         assertThat(((Task) (response.getData())).getName()).isEqualTo("task updated");
     }
+
+    @Test
+    public void onPartialUpdateRepositoryShouldPassOnlyChangedValues() throws Exception {
+        // GIVEN
+        ResourceRepository resourceRepository = mock(ResourceRepository.class,
+            withSettings().extraInterfaces(PartialUpdateRepository.class));
+        Task updatedTask = new Task();
+        //noinspection unchecked
+        when(((PartialUpdateRepository) resourceRepository).update(any(), anyMap(), anyMap(), any()))
+            .thenReturn(updatedTask);
+        ResourceRegistry registry = buildTaskRegistry(resourceRepository);
+
+        RequestBody taskPatch = new RequestBody();
+        DataBody data = new DataBody();
+        taskPatch.setData(data);
+        data.setType("tasks");
+        data.setAttributes(OBJECT_MAPPER.createObjectNode().put("name", "task updated"));
+        JsonPath jsonPath = new PathBuilder(registry).buildPath("/tasks/1");
+        ResourcePatch sut = new ResourcePatch(registry, typeParser, OBJECT_MAPPER);
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(jsonPath, new RequestParams(new ObjectMapper()), taskPatch);
+
+        // THEN
+        assertThat(response.getData()).isSameAs(updatedTask);
+        //noinspection unchecked
+        verify((PartialUpdateRepository) resourceRepository).update(eq(1L),
+            eq(Collections.singletonMap("name", "task updated")), eq(Collections.emptyMap()), any());
+        verify(resourceRepository, never()).findOne(any(), any());
+        verify(resourceRepository, never()).save(any());
+    }
+
+    @Test
+    public void onUnchangedAttributesShouldNotSaveResource() throws Exception {
+        // GIVEN
+        ResourceRepository resourceRepository = mock(ResourceRepository.class);
+        Task task = new Task();
+        task.setId(1L);
+        task.setName("same name");
+        when(resourceRepository.findOne(any(), any())).thenReturn(task);
+        ResourceRegistry registry = buildTaskRegistry(resourceRepository);
+
+        RequestBody taskPatch = new RequestBody();
+        DataBody data = new DataBody();
+        taskPatch.setData(data);
+        data.setType("tasks");
+        data.setAttributes(OBJECT_MAPPER.createObjectNode().put("name", "same name"));
+        JsonPath jsonPath = new PathBuilder(registry).buildPath("/tasks/1");
+        ResourcePatch sut = new ResourcePatch(registry, typeParser, OBJECT_MAPPER);
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(jsonPath, new RequestParams(new ObjectMapper()), taskPatch);
+
+        // THEN
+        assertThat(response.getData()).isSameAs(task);
+        verify(resourceRepository, times(1)).findOne(any(), any());
+        verify(resourceRepository, never()).save(any());
+    }
+
+    @Test
+    public void onBoundTaskGroupShouldSaveRelationshipsOnRequestThread() throws Exception {
+        // GIVEN
+        Task task = new Task();
+        task.setName("sample task");
+        Long taskId = new TaskRepository().save(task).getId();
+
+        RequestBody taskPatch = new RequestBody();
+        DataBody data = new DataBody();
+        taskPatch.setData(data);
+        data.setType("tasks");
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("project", new LinkageData("projects", "2"));
+        data.getRelationships().setAdditionalProperty("projects", Collections.singletonList(
+            new LinkageData("projects", "3")));
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/" + taskId);
+        ResourcePatch sut = new ResourcePatch(resourceRegistry, typeParser, OBJECT_MAPPER);
+        // a helper thread which runs before the request thread would take all the tasks it is given
+        TaskGroup taskGroup = new TaskGroup(command -> {
+            Thread thread = new Thread(command);
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }, 4);
+
+        // WHEN
+        taskGroup.call(() -> sut.handle(jsonPath, new RequestParams(new ObjectMapper()), taskPatch));
+
+        // THEN
+        TaskToProjectRepository relationshipRepository = new TaskToProjectRepository();
+        assertThat(relationshipRepository.findOneTarget(taskId, "project", null).getId()).isEqualTo(2L);
+        assertThat(relationshipRepository.findManyTargets(taskId, "projects", null)).extracting("id").containsExactly(3L);
+    }
+
+    private ResourceRegistry buildTaskRegistry(ResourceRepository resourceRepository) {
+        ResourceInformation resourceInformation = new ResourceInformationBuilder(new ResourceFieldNameTransformer())
+            .build(Task.class);
+        ResourceRegistry registry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        //noinspection unchecked
+        registry.addEntry(Task.class, new RegistryEntry(resourceInformation, resourceRepository,
+            Collections.emptyList()));
+        return registry;
+    }
 }
@@ -4,24 +4,46 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.katharsis.dispatcher.controller.BaseControllerTest;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.FullStateSaveRepository;
+import io.katharsis.repository.RelationshipReferencesRepository;
+import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.dto.ResourceRelationships;
 import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
 import io.katharsis.request.path.ResourcePath;
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.resource.annotations.JsonApiToOne;
+import io.katharsis.resource.exception.ResourceException;
+import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
 import io.katharsis.resource.mock.models.*;
 import io.katharsis.resource.mock.repository.ProjectRepository;
 import io.katharsis.resource.mock.repository.TaskRepository;
 import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryTest;
 import io.katharsis.response.ResourceResponse;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
 
 public class ResourcePostTest extends BaseControllerTest {
 
@@ -229,4 +251,361 @@ public class ResourcePostTest extends BaseControllerTest {
         assertThat(persistedMemorandum.getTitle()).isEqualTo("sample title");
         assertThat(persistedMemorandum.getBody()).isEqualTo("sample body");
     }
+
+    @Test
+    public void onUnknownAttributeShouldThrowException() throws Exception {
+        // GIVEN
+        RequestBody newProjectBody = new RequestBody();
+        DataBody data = new DataBody();
+        newProjectBody.setData(data);
+        data.setType("projects");
+        data.setAttributes(OBJECT_MAPPER.createObjectNode()
+            .put("name", "sample project")
+            .put("nonExistingAttribute", "value"));
+
+        JsonPath projectPath = pathBuilder.buildPath("/projects");
+        ResourcePost sut = new ResourcePost(resourceRegistry, typeParser, OBJECT_MAPPER);
+
+        // THEN
+        expectedException.expect(ResourceFieldNotFoundException.class);
+
+        // WHEN
+        sut.handle(projectPath, new RequestParams(new ObjectMapper()), newProjectBody);
+    }
+
+    @Test
+    public void onFullStateSaveRepositoryShouldNotFetchSavedResource() throws Exception {
+        // GIVEN
+        ResourceRepository resourceRepository = mock(ResourceRepository.class,
+            withSettings().extraInterfaces(FullStateSaveRepository.class));
+        Task savedTask = new Task();
+        savedTask.setId(1L);
+        savedTask.setName("sample task");
+        //noinspection unchecked
+        when(resourceRepository.save(any())).thenReturn(savedTask);
+
+        ResourceRegistry registry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        addEntry(registry, Task.class, resourceRepository);
+
+        RequestBody newTaskBody = new RequestBody();
+        DataBody data = new DataBody();
+        newTaskBody.setData(data);
+        data.setType("tasks");
+        data.setAttributes(OBJECT_MAPPER.createObjectNode().put("name", "sample task"));
+        JsonPath taskPath = new PathBuilder(registry).buildPath("/tasks");
+        ResourcePost sut = new ResourcePost(registry, typeParser, OBJECT_MAPPER);
+
+        // WHEN
+        ResourceResponse response = sut.handle(taskPath, new RequestParams(new ObjectMapper()), newTaskBody);
+
+        // THEN
+        assertThat(response.getData()).isSameAs(savedTask);
+        verify(resourceRepository, never()).findOne(any(), any());
+    }
+
+    @Test
+    public void onRelationshipReferencesRepositoryShouldNotFetchRelatedResources() throws Exception {
+        // GIVEN
+        ResourceRepository taskRepository = mock(ResourceRepository.class,
+            withSettings().extraInterfaces(RelationshipReferencesRepository.class));
+        //noinspection unchecked
+        when(taskRepository.save(any())).then(invocation -> invocation.getArguments()[0]);
+        ResourceRepository projectRepository = mock(ResourceRepository.class);
+
+        ResourceRegistry registry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        addEntry(registry, Task.class, taskRepository);
+        addEntry(registry, Project.class, projectRepository);
+
+        RequestBody newTaskBody = new RequestBody();
+        DataBody data = new DataBody();
+        newTaskBody.setData(data);
+        data.setType("tasks");
+        data.setAttributes(OBJECT_MAPPER.createObjectNode().put("name", "sample task"));
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("project", new LinkageData("projects", "2"));
+        data.getRelationships().setAdditionalProperty("projects", Collections.singletonList(
+            new LinkageData("projects", "3")));
+        JsonPath taskPath = new PathBuilder(registry).buildPath("/tasks");
+        ResourcePost sut = new ResourcePost(registry, typeParser, OBJECT_MAPPER);
+
+        // WHEN
+        sut.handle(taskPath, new RequestParams(new ObjectMapper()), newTaskBody);
+
+        // THEN
+        ArgumentCaptor<Task> savedTask = ArgumentCaptor.forClass(Task.class);
+        //noinspection unchecked
+        verify(taskRepository).save(savedTask.capture());
+        assertThat(savedTask.getValue().getProject().getId()).isEqualTo(2L);
+        assertThat(savedTask.getValue().getProjects()).extracting("id").containsExactly(3L);
+        verifyZeroInteractions(projectRepository);
+    }
+
+    @Test
+    public void onRelationshipReferencesRepositoryShouldCreateDeclaredCollectionType() throws Exception {
+        // GIVEN
+        ResourceRepository boardRepository = mock(ResourceRepository.class,
+            withSettings().extraInterfaces(RelationshipReferencesRepository.class));
+        //noinspection unchecked
+        when(boardRepository.save(any())).then(invocation -> invocation.getArguments()[0]);
+
+        ResourceRegistry registry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        addEntry(registry, Board.class, boardRepository);
+        addEntry(registry, Card.class, mock(ResourceRepository.class));
+        addEntry(registry, Sticker.class, mock(ResourceRepository.class));
+
+        RequestBody newBoardBody = newBoardBody("cards", Arrays.asList(new LinkageData("cards", "3"),
+            new LinkageData("cards", "2")));
+        JsonPath boardPath = new PathBuilder(registry).buildPath("/boards");
+        ResourcePost sut = new ResourcePost(registry, typeParser, OBJECT_MAPPER);
+
+        // WHEN
+        sut.handle(boardPath, new RequestParams(new ObjectMapper()), newBoardBody);
+
+        // THEN
+        ArgumentCaptor<Board> savedBoard = ArgumentCaptor.forClass(Board.class);
+        //noinspection unchecked
+        verify(boardRepository).save(savedBoard.capture());
+        assertThat(savedBoard.getValue().getCards()).isInstanceOf(TreeSet.class);
+        assertThat(savedBoard.getValue().getCards()).extracting("id").containsExactly(2L, 3L);
+    }
+
+    @Test
+    public void onRelationshipReferenceWithoutNoArgConstructorShouldThrowException() throws Exception {
+        // GIVEN
+        ResourceRepository boardRepository = mock(ResourceRepository.class,
+            withSettings().extraInterfaces(RelationshipReferencesRepository.class));
+
+        ResourceRegistry registry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        addEntry(registry, Board.class, boardRepository);
+        addEntry(registry, Card.class, mock(ResourceRepository.class));
+        addEntry(registry, Sticker.class, mock(ResourceRepository.class));
+
+        RequestBody newBoardBody = newBoardBody("sticker", new LinkageData("stickers", "1"));
+        JsonPath boardPath = new PathBuilder(registry).buildPath("/boards");
+        ResourcePost sut = new ResourcePost(registry, typeParser, OBJECT_MAPPER);
+
+        // THEN
+        expectedException.expect(ResourceException.class);
+
+        // WHEN
+        sut.handle(boardPath, new RequestParams(new ObjectMapper()), newBoardBody);
+    }
+
+    @Test
+    public void onSubtypeOfResourceShouldUseReferencesOfEndpointRepository() throws Exception {
+        // GIVEN
+        ResourceRepository taskRepository = mock(ResourceRepository.class,
+            withSettings().extraInterfaces(RelationshipReferencesRepository.class));
+        //noinspection unchecked
+        when(taskRepository.save(any())).then(invocation -> invocation.getArguments()[0]);
+        ResourceRepository projectRepository = mock(ResourceRepository.class);
+        RegistryEntry specialTaskEntry = mock(RegistryEntry.class);
+        when(specialTaskEntry.getResourceInformation()).thenReturn(
+            new ResourceInformationBuilder(new ResourceFieldNameTransformer()).build(SpecialTask.class));
+        when(specialTaskEntry.getResourceRepository()).thenReturn(mock(ResourceRepository.class));
+        when(specialTaskEntry.isParent(any())).thenReturn(true);
+
+        ResourceRegistry registry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        addEntry(registry, Task.class, taskRepository);
+        addEntry(registry, Project.class, projectRepository);
+        //noinspection unchecked
+        registry.addEntry(SpecialTask.class, specialTaskEntry);
+
+        RequestBody newTaskBody = new RequestBody();
+        DataBody data = new DataBody();
+        newTaskBody.setData(data);
+        data.setType("specialTasks");
+        data.setAttributes(OBJECT_MAPPER.createObjectNode().put("name", "sample task"));
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("project", new LinkageData("projects", "2"));
+        JsonPath taskPath = new PathBuilder(registry).buildPath("/tasks");
+        ResourcePost sut = new ResourcePost(registry, typeParser, OBJECT_MAPPER);
+
+        // WHEN
+        sut.handle(taskPath, new RequestParams(new ObjectMapper()), newTaskBody);
+
+        // THEN
+        ArgumentCaptor<Task> savedTask = ArgumentCaptor.forClass(Task.class);
+        //noinspection unchecked
+        verify(taskRepository).save(savedTask.capture());
+        assertThat(savedTask.getValue()).isInstanceOf(SpecialTask.class);
+        assertThat(savedTask.getValue().getProject().getId()).isEqualTo(2L);
+        verifyZeroInteractions(projectRepository);
+    }
+
+    @Test
+    public void onUnknownRelationshipShouldThrowException() throws Exception {
+        // GIVEN
+        ResourceRegistry registry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        addEntry(registry, Board.class, mock(ResourceRepository.class));
+        addEntry(registry, Card.class, mock(ResourceRepository.class));
+
+        RequestBody newBoardBody = newBoardBody("unknown", Collections.singletonList(new LinkageData("cards", "1")));
+        JsonPath boardPath = new PathBuilder(registry).buildPath("/boards");
+        ResourcePost sut = new ResourcePost(registry, typeParser, OBJECT_MAPPER);
+
+        // THEN
+        expectedException.expect(ResourceFieldNotFoundException.class);
+
+        // WHEN
+        sut.handle(boardPath, new RequestParams(new ObjectMapper()), newBoardBody);
+    }
+
+    @Test
+    public void onSortedRelationshipOfNotComparableResourceShouldThrowException() throws Exception {
+        // GIVEN
+        ResourceRepository boardRepository = mock(ResourceRepository.class,
+            withSettings().extraInterfaces(RelationshipReferencesRepository.class));
+
+        ResourceRegistry registry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        addEntry(registry, Board.class, boardRepository);
+        addEntry(registry, Pin.class, mock(ResourceRepository.class));
+
+        RequestBody newBoardBody = newBoardBody("pins", Arrays.asList(new LinkageData("pins", "1"),
+            new LinkageData("pins", "2")));
+        JsonPath boardPath = new PathBuilder(registry).buildPath("/boards");
+        ResourcePost sut = new ResourcePost(registry, typeParser, OBJECT_MAPPER);
+
+        // THEN
+        expectedException.expect(ResourceException.class);
+
+        // WHEN
+        sut.handle(boardPath, new RequestParams(new ObjectMapper()), newBoardBody);
+    }
+
+    private static RequestBody newBoardBody(String relationshipName, Object linkage) {
+        RequestBody newBoardBody = new RequestBody();
+        DataBody data = new DataBody();
+        newBoardBody.setData(data);
+        data.setType("boards");
+        data.setAttributes(OBJECT_MAPPER.createObjectNode().put("name", "sample board"));
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty(relationshipName, linkage);
+        return newBoardBody;
+    }
+
+    private static void addEntry(ResourceRegistry registry, Class<?> resourceClass,
+                                 ResourceRepository resourceRepository) {
+        ResourceInformation resourceInformation = new ResourceInformationBuilder(new ResourceFieldNameTransformer())
+            .build(resourceClass);
+        //noinspection unchecked
+        registry.addEntry(resourceClass, new RegistryEntry(resourceInformation, resourceRepository,
+            Collections.emptyList()));
+    }
+
+    @JsonApiResource(type = "boards")
+    public static class Board {
+
+        @JsonApiId
+        private Long id;
+
+        private String name;
+
+        @JsonApiToMany
+        private SortedSet<Card> cards;
+
+        @JsonApiToOne
+        private Sticker sticker;
+
+        @JsonApiToMany
+        private SortedSet<Pin> pins;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public SortedSet<Card> getCards() {
+            return cards;
+        }
+
+        public void setCards(SortedSet<Card> cards) {
+            this.cards = cards;
+        }
+
+        public Sticker getSticker() {
+            return sticker;
+        }
+
+        public void setSticker(Sticker sticker) {
+            this.sticker = sticker;
+        }
+
+        public SortedSet<Pin> getPins() {
+            return pins;
+        }
+
+        public void setPins(SortedSet<Pin> pins) {
+            this.pins = pins;
+        }
+    }
+
+    @JsonApiResource(type = "cards")
+    public static class Card implements Comparable<Card> {
+
+        @JsonApiId
+        private Long id;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Card other) {
+            return id.compareTo(other.id);
+        }
+    }
+
+    @JsonApiResource(type = "stickers")
+    public static class Sticker {
+
+        @JsonApiId
+        private Long id;
+
+        public Sticker(Long id) {
+            this.id = id;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    @JsonApiResource(type = "pins")
+    public static class Pin {
+
+        @JsonApiId
+        private Long id;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    @JsonApiResource(type = "specialTasks")
+    public static class SpecialTask extends Task {
+    }
 }
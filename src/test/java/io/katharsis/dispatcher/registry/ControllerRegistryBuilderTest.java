@@ -1,8 +1,12 @@
 package io.katharsis.dispatcher.registry;
 
+import io.katharsis.dispatcher.CoalescingController;
+import io.katharsis.dispatcher.controller.resource.ResourcePost;
 import io.katharsis.request.path.ResourcePath;
 import org.junit.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class ControllerRegistryBuilderTest {
 
     @Test
@@ -16,4 +20,17 @@ public class ControllerRegistryBuilderTest {
         // THEN
         result.getController(new ResourcePath("path"), "GET");
     }
+
+    @Test
+    public void onBuildWithCoalescedReadsShouldWrapOnlyReadControllers() throws Exception {
+        // GIVEN
+        ControllerRegistryBuilder sut = new ControllerRegistryBuilder(null, null, null);
+
+        // WHEN
+        ControllerRegistry result = sut.build(true);
+
+        // THEN
+        assertThat(result.getController(new ResourcePath("path"), "GET")).isExactlyInstanceOf(CoalescingController.class);
+        assertThat(result.getController(new ResourcePath("path"), "POST")).isExactlyInstanceOf(ResourcePost.class);
+    }
 }
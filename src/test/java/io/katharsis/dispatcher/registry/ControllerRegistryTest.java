@@ -1,5 +1,9 @@
 package io.katharsis.dispatcher.registry;
 
+import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerKey;
+import io.katharsis.dispatcher.controller.ControllerKey.PathKind;
+import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.locator.SampleJsonServiceLocator;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathBuilder;
@@ -14,6 +18,14 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
 public class ControllerRegistryTest {
 
     private ResourceRegistry resourceRegistry;
@@ -45,4 +57,40 @@ public class ControllerRegistryTest {
         // WHEN
         sut.getController(jsonPath, requestType);
     }
+
+    @Test
+    public void onDeclaredKeyShouldReturnControllerWithoutCheckingAcceptance() {
+        // GIVEN
+        JsonPath jsonPath = new PathBuilder(resourceRegistry).buildPath("/tasks/1");
+        BaseController controller = mock(BaseController.class);
+        when(controller.getHandledKeys())
+            .thenReturn(Collections.singleton(ControllerKey.of(PathKind.RESOURCE, false, HttpMethod.GET)));
+        ControllerRegistry sut = new ControllerRegistry(null);
+        sut.addController(controller);
+
+        // WHEN
+        BaseController result = sut.getController(jsonPath, "GET");
+
+        // THEN
+        assertThat(result).isSameAs(controller);
+        verify(controller, never()).isAcceptable(any(JsonPath.class), anyString());
+    }
+
+    @Test
+    public void onUndeclaredKeysShouldReturnAcceptingController() {
+        // GIVEN
+        JsonPath jsonPath = new PathBuilder(resourceRegistry).buildPath("/tasks/1");
+        BaseController declaredController = mock(BaseController.class);
+        when(declaredController.getHandledKeys())
+            .thenReturn(Collections.singleton(ControllerKey.of(PathKind.RESOURCE, false, HttpMethod.GET)));
+        BaseController undeclaredController = mock(BaseController.class);
+        when(undeclaredController.isAcceptable(jsonPath, "OPTIONS")).thenReturn(true);
+        ControllerRegistry sut = new ControllerRegistry(Arrays.asList(declaredController, undeclaredController));
+
+        // WHEN
+        BaseController result = sut.getController(jsonPath, "OPTIONS");
+
+        // THEN
+        assertThat(result).isSameAs(undeclaredController);
+    }
 }
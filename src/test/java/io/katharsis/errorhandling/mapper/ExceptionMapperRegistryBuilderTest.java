@@ -4,6 +4,7 @@ import io.katharsis.errorhandling.exception.KatharsisMappableException;
 import io.katharsis.errorhandling.handlers.NoAnnotationExceptionMapper;
 import io.katharsis.errorhandling.handlers.SomeExceptionMapper;
 import io.katharsis.resource.exception.init.InvalidResourceException;
+import io.katharsis.resource.registry.ResourceIndex;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -60,4 +61,18 @@ public class ExceptionMapperRegistryBuilderTest {
                 .contains(SomeExceptionMapper.SomeException.class);
     }
 
+    @Test
+    public void shouldContainExceptionMapperFromResourceIndex() throws Exception {
+        // GIVEN
+        ResourceIndex resourceIndex = new ResourceIndex();
+        resourceIndex.addExceptionMapper(SomeExceptionMapper.class.getName());
+
+        // WHEN
+        ExceptionMapperRegistry registry = builder.build(resourceIndex);
+
+        // THEN
+        assertThat(registry.getExceptionMappers())
+                .extracting("exceptionClass")
+                .contains(SomeExceptionMapper.SomeException.class, KatharsisMappableException.class);
+    }
 }
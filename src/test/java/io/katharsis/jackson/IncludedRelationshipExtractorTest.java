@@ -29,6 +29,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -125,6 +126,28 @@ public class IncludedRelationshipExtractorTest {
         assertThat(result).containsExactly(new Container(classCWithInclusion, new RequestParams(null)));
     }
 
+    @Test
+    public void onDefaultInclusionWithCycleShouldReturnEachResourceOnce() throws Exception {
+        // GIVEN
+        ResourceResponse response = new ResourceResponse(null, null, new RequestParams(null), null, null);
+        ClassCWithInclusion first = classCWithInclusion(1L);
+        ClassCWithInclusion second = classCWithInclusion(2L);
+        ClassCWithInclusion third = classCWithInclusion(3L);
+        first.setClassCsWithInclusion(Arrays.asList(second, third));
+        second.setClassCsWithInclusion(Arrays.asList(third, classCWithInclusion(1L)));
+        third.setClassCsWithInclusion(Collections.singletonList(first));
+
+        // WHEN
+        Set<?> result = sut.extractIncludedResources(first, response);
+
+        // THEN
+        assertThat(result).hasSize(3);
+        assertThat(result.stream()
+            .map(container -> ((ClassCWithInclusion) ((Container) container).getData()).getId())
+            .collect(Collectors.toList()))
+            .containsOnly(1L, 2L, 3L);
+    }
+
     @Test
     public void onInclusionShouldReturnOneElement() throws Exception {
         // GIVEN
@@ -171,6 +194,20 @@ public class IncludedRelationshipExtractorTest {
         assertThat(result).containsExactly(new Container(project, new RequestParams(null)));
     }
 
+    @Test
+    public void onSingleSegmentFieldInclusionShouldReturnEmptySet() throws Exception {
+        // GIVEN
+        RequestParams requestParams = getRequestParamsWithInclusion("[\"project\"]");
+        ResourceResponse response = new ResourceResponse(null, new FieldPath("project"), requestParams, null, null);
+        Project resource = new Project();
+
+        // WHEN
+        Set<?> result = sut.extractIncludedResources(resource, response);
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+
     @Test
     public void onMultipleFieldsInclusionShouldReturnOneElement() throws Exception {
         // GIVEN
@@ -201,6 +238,27 @@ public class IncludedRelationshipExtractorTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    public void onUnknownInclusionShouldBeIgnored() throws Exception {
+        // GIVEN
+        RequestParams requestParams = getRequestParamsWithInclusion("[\"classBs.unknown\", \"classBs\"]");
+        ResourceResponse response = new ResourceResponse(null, new ResourcePath("classAs"), requestParams, null, null);
+        ClassB classB = new ClassB(new ClassC());
+        ClassA classA = new ClassA(classB);
+
+        // WHEN
+        Set<?> result = sut.extractIncludedResources(classA, response);
+
+        // THEN
+        assertThat(result).containsExactly(new Container(classB, requestParams));
+    }
+
+    private static ClassCWithInclusion classCWithInclusion(Long id) {
+        ClassCWithInclusion resource = new ClassCWithInclusion();
+        resource.setId(id);
+        return resource;
+    }
+
     private RequestParams getRequestParamsWithInclusion(String project1) {
         RequestParamsBuilder requestParamsBuilder = new RequestParamsBuilder(new ObjectMapper());
         return requestParamsBuilder.buildRequestParams(Collections.singletonMap(RestrictedQueryParamsMembers.include.name(), project1));
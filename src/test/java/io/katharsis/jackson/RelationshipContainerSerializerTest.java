@@ -1,11 +1,15 @@
 package io.katharsis.jackson;
 
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
 import io.katharsis.resource.mock.models.LazyTask;
 import io.katharsis.resource.mock.models.Project;
 import io.katharsis.resource.mock.models.Task;
 import io.katharsis.resource.mock.models.User;
 import io.katharsis.response.Container;
+import io.katharsis.response.DataLinksContainer;
 import org.junit.Test;
 
 import java.util.Collections;
@@ -133,4 +137,25 @@ public class RelationshipContainerSerializerTest extends BaseSerializerTest {
         // THEN
         assertThatJson(result).node("relationships.assignedProjects.data").isArray().ofLength(0);
     }
+
+    @Test
+    public void onContainerWithResourceInformationShouldNotLookUpResourceClass() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setId(2L);
+        Task task = new Task() {
+        };
+        task.setId(1L);
+        task.setProject(project);
+        ResourceInformation resourceInformation = new ResourceInformationBuilder(new ResourceFieldNameTransformer())
+            .build(Task.class);
+        DataLinksContainer dataLinksContainer = new DataLinksContainer(task, resourceInformation, null,
+            "https://service.local/tasks/1");
+
+        // WHEN
+        String result = sut.writeValueAsString(dataLinksContainer);
+
+        // THEN
+        assertThatJson(result).node("project.data.id").isEqualTo("\"2\"");
+    }
 }
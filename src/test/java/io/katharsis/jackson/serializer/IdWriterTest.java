@@ -0,0 +1,79 @@
+package io.katharsis.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.katharsis.resource.information.ResourceAccessor;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IdWriterTest {
+
+    @Test
+    public void onLongValuesShouldFormatAsDecimal() throws Exception {
+        for (long value : new long[]{0, 7, -7, 1234567890L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            // GIVEN
+            char[] buffer = new char[36];
+
+            // WHEN
+            int position = IdWriter.formatLong(value, buffer);
+
+            // THEN
+            assertThat(new String(buffer, position, buffer.length - position)).isEqualTo(Long.toString(value));
+        }
+    }
+
+    @Test
+    public void onUuidShouldFormatAsCanonicalString() throws Exception {
+        // GIVEN
+        UUID uuid = UUID.randomUUID();
+        char[] buffer = new char[36];
+
+        // WHEN
+        IdWriter.formatUuid(uuid, buffer);
+
+        // THEN
+        assertThat(new String(buffer)).isEqualTo(uuid.toString());
+    }
+
+    @Test
+    public void onPrimitiveIdShouldWriteStringWithoutBoxing() throws Exception {
+        // GIVEN
+        ResourceAccessor accessor = mock(ResourceAccessor.class);
+        Object resource = new Object();
+        when(accessor.isLongId()).thenReturn(true);
+        when(accessor.getLongId(resource)).thenReturn(42L);
+        StringWriter writer = new StringWriter();
+
+        // WHEN
+        try (JsonGenerator gen = new JsonFactory().createGenerator(writer)) {
+            IdWriter.writeId(gen, accessor, resource);
+        }
+
+        // THEN
+        assertThat(writer.toString()).isEqualTo("\"42\"");
+        verify(accessor, never()).getId(resource);
+    }
+
+    @Test
+    public void onNullIdShouldWriteNullString() throws Exception {
+        // GIVEN
+        ResourceAccessor accessor = mock(ResourceAccessor.class);
+        StringWriter writer = new StringWriter();
+
+        // WHEN
+        try (JsonGenerator gen = new JsonFactory().createGenerator(writer)) {
+            IdWriter.writeId(gen, accessor, new Object());
+        }
+
+        // THEN
+        assertThat(writer.toString()).isEqualTo("\"null\"");
+    }
+}
@@ -0,0 +1,66 @@
+package io.katharsis.queryParams;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.resource.RestrictedQueryParamsMembers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestParamsTest {
+
+    private RequestParamsBuilder builder;
+
+    @Before
+    public void prepare() {
+        builder = new RequestParamsBuilder(new ObjectMapper());
+    }
+
+    @Test
+    public void onSameParamsInDifferentOrderShouldBeEqual() {
+        // GIVEN
+        RequestParams first = build("{\"name\": \"John\", \"age\": 30}", "{\"name\": \"asc\"}", "[\"author\", \"comments\"]");
+        RequestParams second = build("{\"age\": 30, \"name\": \"John\"}", "{\"name\": \"asc\"}", "[\"comments\", \"author\"]");
+
+        // THEN
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
+    @Test
+    public void onDifferentSortingOrderShouldNotBeEqual() {
+        // GIVEN
+        RequestParams first = build(null, "{\"name\": \"asc\", \"id\": \"desc\"}", null);
+        RequestParams second = build(null, "{\"id\": \"desc\", \"name\": \"asc\"}", null);
+
+        // THEN
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    public void onDifferentInclusionsShouldNotBeEqual() {
+        // GIVEN
+        RequestParams first = build(null, null, "[\"author\"]");
+        RequestParams second = build(null, null, "[\"comments\"]");
+
+        // THEN
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    private RequestParams build(String filters, String sorting, String includedRelations) {
+        Map<String, String> queryParams = new HashMap<>();
+        if (filters != null) {
+            queryParams.put(RestrictedQueryParamsMembers.filter.name(), filters);
+        }
+        if (sorting != null) {
+            queryParams.put(RestrictedQueryParamsMembers.sort.name(), sorting);
+        }
+        if (includedRelations != null) {
+            queryParams.put(RestrictedQueryParamsMembers.include.name(), includedRelations);
+        }
+        return builder.buildRequestParams(queryParams);
+    }
+}
@@ -6,6 +6,9 @@ import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.field.ResourceFieldNameTransformer;
 import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.resource.registry.ResourceRegistryBuilder;
 import io.katharsis.resource.registry.ResourceRegistryBuilderTest;
@@ -286,4 +289,32 @@ public class PathBuilderTest {
         expectedPath.setParentResource(new ResourcePath("tasks", new PathIds("1")));
         assertThat(jsonPath).isEqualTo(expectedPath);
     }
+
+    @Test
+    public void onTrailingIdSeparatorShouldIgnoreEmptyId() {
+        // GIVEN
+        String path = "/tasks/1,2,/";
+
+        // WHEN
+        JsonPath jsonPath = pathBuilder.buildPath(path);
+
+        // THEN
+        assertThat(jsonPath.getIds().getIds()).containsExactly("1", "2");
+    }
+
+    @Test
+    public void onResourceAddedAfterBuildingPathShouldBuildItsPath() {
+        // GIVEN
+        ResourceRegistry resourceRegistry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        PathBuilder sut = new PathBuilder(resourceRegistry);
+        resourceRegistry.addEntry(Task.class, new RegistryEntry<>(null, null, null));
+        sut.buildPath("/tasks");
+
+        // WHEN
+        resourceRegistry.addEntry(Project.class, new RegistryEntry<>(null, null, null));
+        JsonPath jsonPath = sut.buildPath("/projects/1");
+
+        // THEN
+        assertThat(jsonPath).isEqualTo(new ResourcePath("projects", new PathIds("1")));
+    }
 }
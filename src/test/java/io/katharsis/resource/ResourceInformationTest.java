@@ -1,17 +1,28 @@
 package io.katharsis.resource;
 
 import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceAccessor;
 import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Project;
 import io.katharsis.resource.mock.models.Task;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ResourceInformationTest {
 
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
     @Test
     public void onRelationshipFieldSearchShouldReturnExistingField() throws NoSuchFieldException {
         // GIVEN
@@ -25,4 +36,67 @@ public class ResourceInformationTest {
         // THEN
         assertThat(result.getName()).isEqualTo(field.getName());
     }
+
+    @Test
+    public void onAccessorShouldReadAndWriteFieldsByIndex() throws Exception {
+        // GIVEN
+        ResourceInformation sut = new ResourceInformationBuilder(new ResourceFieldNameTransformer()).build(Task.class);
+        ResourceAccessor accessor = sut.getAccessor();
+        Project project = new Project();
+        Task task = new Task();
+        task.setId(1L);
+        task.setName("some name");
+
+        // WHEN
+        int nameIndex = sut.findAttributeFieldIndex("name");
+        int projectIndex = sut.findRelationshipFieldIndex("project");
+        accessor.setRelationship(task, projectIndex, project);
+
+        // THEN
+        assertThat(accessor.getId(task)).isEqualTo(1L);
+        assertThat(sut.getAttributeField(nameIndex).getName()).isEqualTo("name");
+        assertThat(accessor.getAttribute(task, nameIndex)).isEqualTo("some name");
+        assertThat(task.getProject()).isSameAs(project);
+        assertThat(accessor.getRelationship(task, projectIndex)).isSameAs(project);
+    }
+
+    @Test
+    public void onNonExistingFieldIndexSearchShouldReturnNegativeIndex() throws Exception {
+        // GIVEN
+        ResourceInformation sut = new ResourceInformationBuilder(new ResourceFieldNameTransformer()).build(Task.class);
+
+        // WHEN
+        int result = sut.findAttributeFieldIndex("nonExistingField");
+
+        // THEN
+        assertThat(result).isEqualTo(-1);
+    }
+
+    @Test
+    public void onChangedFieldSetShouldKeepFieldsConsistentWithIndexes() throws Exception {
+        // GIVEN
+        Field field = String.class.getDeclaredField("value");
+        ResourceField resourceField = new ResourceField("value", field.getType(), field.getGenericType());
+        Set<ResourceField> relationshipFields = new HashSet<>(Collections.singleton(resourceField));
+        ResourceInformation sut = new ResourceInformation(Task.class, null, null, relationshipFields);
+
+        // WHEN
+        relationshipFields.clear();
+
+        // THEN
+        assertThat(sut.getRelationshipFields()).containsExactly(resourceField);
+        assertThat(sut.getRelationshipCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void onRelationshipFieldsShouldReturnUnmodifiableSet() throws Exception {
+        // GIVEN
+        ResourceInformation sut = new ResourceInformationBuilder(new ResourceFieldNameTransformer()).build(Task.class);
+
+        // THEN
+        expectedException.expect(UnsupportedOperationException.class);
+
+        // WHEN
+        sut.getRelationshipFields().clear();
+    }
 }
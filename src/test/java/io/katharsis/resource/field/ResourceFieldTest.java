@@ -1,8 +1,19 @@
 package io.katharsis.resource.field;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiIncludeByDefault;
+import io.katharsis.resource.annotations.JsonApiResource;
 import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.resource.annotations.JsonApiToOne;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryTest;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
@@ -12,6 +23,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class ResourceFieldTest {
 
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
     @Test
     public void onWithLazyFieldClassShouldReturnTrue() throws Exception {
         // GIVEN
@@ -54,6 +68,75 @@ public class ResourceFieldTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    public void onToOneIncludedByDefaultFieldShouldHaveRelationshipFlags() throws Exception {
+        // GIVEN
+        List<Annotation> annotations = Arrays.asList(WithToOneIncludedFieldClass.class.getDeclaredField("value").getAnnotations());
+
+        // WHEN
+        ResourceField sut = new ResourceField("", String.class, String.class, annotations);
+
+        // THEN
+        assertThat(sut.isToOne()).isTrue();
+        assertThat(sut.isRelationship()).isTrue();
+        assertThat(sut.isIncludeByDefault()).isTrue();
+        assertThat(sut.isToMany()).isFalse();
+        assertThat(sut.isId()).isFalse();
+    }
+
+    @Test
+    public void onIdFieldShouldHaveIdFlagOnly() throws Exception {
+        // GIVEN
+        List<Annotation> annotations = Arrays.asList(WithIdFieldClass.class.getDeclaredField("value").getAnnotations());
+
+        // WHEN
+        ResourceField sut = new ResourceField("", String.class, String.class, annotations);
+
+        // THEN
+        assertThat(sut.isId()).isTrue();
+        assertThat(sut.isRelationship()).isFalse();
+        assertThat(sut.isIncludeByDefault()).isFalse();
+    }
+
+    @Test
+    public void onRawToManyFieldShouldFailOnTargetClassOnly() throws Exception {
+        // GIVEN
+        List<Annotation> annotations = Arrays.asList(WithRawToManyFieldClass.class.getDeclaredField("value").getAnnotations());
+        ResourceField sut = new ResourceField("value", List.class, List.class, annotations);
+
+        // THEN
+        assertThat(sut.isCollection()).isTrue();
+        expectedException.expect(RuntimeException.class);
+
+        // WHEN
+        sut.getTargetClass();
+    }
+
+    @Test
+    public void onRawToManyFieldShouldBeAddedToRegistry() throws Exception {
+        // GIVEN
+        ResourceInformation resourceInformation = new ResourceInformationBuilder(new ResourceFieldNameTransformer())
+            .build(WithRawToManyFieldClass.class);
+        ResourceRegistry resourceRegistry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+
+        // WHEN
+        //noinspection unchecked
+        resourceRegistry.addEntry(WithRawToManyFieldClass.class, new RegistryEntry(resourceInformation, null));
+
+        // THEN
+        assertThat(resourceRegistry.getEntry("rawResources")).isNotNull();
+    }
+
+    @Test
+    public void onFieldWithoutTypeShouldNotBeCollection() throws Exception {
+        // WHEN
+        ResourceField sut = new ResourceField("value", null, null);
+
+        // THEN
+        assertThat(sut.isCollection()).isFalse();
+        assertThat(sut.getTargetClass()).isNull();
+    }
+
     private static class WithLazyFieldClass {
 
         @JsonProperty("sth")
@@ -71,4 +154,35 @@ public class ResourceFieldTest {
         private String value;
 
     }
+
+    private static class WithToOneIncludedFieldClass {
+
+        @JsonApiToOne
+        @JsonApiIncludeByDefault
+        private String value;
+    }
+
+    @JsonApiResource(type = "rawResources")
+    public static class WithRawToManyFieldClass {
+
+        @JsonApiId
+        private Long id;
+
+        @JsonApiToMany
+        private List value;
+
+        public Long getId() {
+            return id;
+        }
+
+        public List getValue() {
+            return value;
+        }
+    }
+
+    private static class WithIdFieldClass {
+
+        @JsonApiId
+        private String value;
+    }
 }
@@ -0,0 +1,138 @@
+package io.katharsis.resource.processor;
+
+import io.katharsis.locator.SampleJsonServiceLocator;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceIndex;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.katharsis.resource.registry.ResourceRegistryBuilderTest.TEST_MODELS_PACKAGE;
+import static io.katharsis.resource.registry.ResourceRegistryTest.TEST_MODELS_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceIndexProcessorTest {
+
+    private static final String MOCK_SOURCES = "src/test/java/io/katharsis/resource/mock";
+    private static final String INDEXED_PACKAGES = Task.class.getPackage().getName() + ","
+        + TaskRepository.class.getPackage().getName();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void onMockSourcesShouldGenerateIndex() throws Exception {
+        // GIVEN
+        File outputDirectory = temporaryFolder.newFolder();
+
+        // WHEN
+        ResourceIndex resourceIndex = ResourceIndex.load(compileMockSources(outputDirectory));
+
+        // THEN
+        assertThat(resourceIndex).isNotNull();
+        assertThat(resourceIndex.getResources()).contains(Task.class.getName());
+        assertThat(resourceIndex.getResourceRepositories())
+            .containsEntry(TaskRepository.class.getName(), Task.class.getName());
+        assertThat(resourceIndex.getRelationshipRepositories())
+            .containsEntry(TaskToProjectRepository.class.getName(), Task.class.getName());
+        assertThat(resourceIndex.getPackages()).contains(Task.class.getPackage().getName());
+        assertThat(resourceIndex.covers(Task.class.getPackage().getName())).isTrue();
+        assertThat(resourceIndex.covers(TEST_MODELS_PACKAGE)).isFalse();
+        assertThat(resourceIndex.covers("io.katharsis.jackson.mock")).isFalse();
+    }
+
+    @Test
+    public void onGeneratedIndexShouldBuildRegistryWithoutScanning() throws Exception {
+        // GIVEN
+        ClassLoader classLoader = compileMockSources(temporaryFolder.newFolder());
+        ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
+            new ResourceInformationBuilder(new ResourceFieldNameTransformer()));
+
+        // WHEN
+        ResourceRegistry resourceRegistry;
+        ClassLoader previousClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            resourceRegistry = sut.build(INDEXED_PACKAGES, TEST_MODELS_URL);
+        } finally {
+            Thread.currentThread().setContextClassLoader(previousClassLoader);
+        }
+
+        // THEN
+        RegistryEntry tasksEntry = resourceRegistry.getEntry("tasks");
+        assertThat(tasksEntry).isNotNull();
+        assertThat(tasksEntry.getResourceRepository()).isInstanceOf(TaskRepository.class);
+        assertThat(tasksEntry.getRelationshipRepositories()).hasSize(1);
+        assertThat(resourceRegistry.getEntry("projects")).isNotNull();
+    }
+
+    @Test
+    public void onPackagesNotCoveredByIndexShouldScanThem() throws Exception {
+        // GIVEN
+        ClassLoader classLoader = compileMockSources(temporaryFolder.newFolder());
+        ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
+            new ResourceInformationBuilder(new ResourceFieldNameTransformer()));
+
+        // WHEN
+        ResourceRegistry resourceRegistry;
+        ClassLoader previousClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            resourceRegistry = sut.build(INDEXED_PACKAGES + ",io.katharsis.jackson.mock", TEST_MODELS_URL);
+        } finally {
+            Thread.currentThread().setContextClassLoader(previousClassLoader);
+        }
+
+        // THEN
+        assertThat(resourceRegistry.getEntry("tasks")).isNotNull();
+        assertThat(resourceRegistry.getEntry("classAs")).isNotNull();
+    }
+
+    private static ClassLoader compileMockSources(File outputDirectory) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<File> sources;
+        try (Stream<Path> paths = Files.walk(Paths.get(MOCK_SOURCES))) {
+            sources = paths
+                .filter(path -> path.toString().endsWith(".java"))
+                .map(Path::toFile)
+                .collect(Collectors.toList());
+        }
+        String classPath = Stream.of(ResourceRepository.class, Task.class,
+            com.fasterxml.jackson.annotation.JsonProperty.class, com.fasterxml.jackson.databind.ObjectMapper.class)
+            .map(clazz -> new File(clazz.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath())
+            .collect(Collectors.joining(File.pathSeparator));
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(sources);
+            List<String> options = Arrays.asList("-proc:only", "-processor", ResourceIndexProcessor.class.getName(),
+                "-classpath", classPath, "-d", outputDirectory.getPath());
+            Boolean result = compiler.getTask(null, fileManager, null, options, null, compilationUnits).call();
+            assertThat(result).isTrue();
+        }
+        return new URLClassLoader(new URL[]{outputDirectory.toURI().toURL()},
+            ResourceIndexProcessorTest.class.getClassLoader());
+    }
+}
@@ -2,6 +2,7 @@ package io.katharsis.resource.registry;
 
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.exception.RelationshipRepositoryNotFoundException;
+import io.katharsis.resource.exception.init.AmbiguousRelationshipRepositoryException;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.mock.models.*;
 import io.katharsis.resource.mock.repository.TaskToProjectRepository;
@@ -12,7 +13,9 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -76,6 +79,20 @@ public class RegistryEntryTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    public void onTwoRepositoriesForSameClassesShouldThrowException() throws Exception {
+        // GIVEN
+        ResourceInformation resourceInformation = new ResourceInformation(Task.class, null, null, null);
+        List<RelationshipRepository<Task, ?, ?, ?>> relationshipRepositories =
+            Arrays.asList(new TaskToProjectRepository(), new TaskToProjectRepository() {});
+
+        // THEN
+        expectedException.expect(AmbiguousRelationshipRepositoryException.class);
+
+        // WHEN
+        new RegistryEntry<>(resourceInformation, null, relationshipRepositories);
+    }
+
     @Test
     public void equalsContract() throws NoSuchFieldException {
         RegistryEntry blue = new RegistryEntry(new ResourceInformation(String.class, null, null, null), null);
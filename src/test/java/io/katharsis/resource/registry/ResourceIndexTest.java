@@ -0,0 +1,122 @@
+package io.katharsis.resource.registry;
+
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import static io.katharsis.resource.registry.ResourceRegistryBuilderTest.TEST_MODELS_PACKAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceIndexTest {
+
+    private static final String REPOSITORY_PACKAGE = TaskRepository.class.getPackage().getName();
+    private static final String NOT_SCANNABLE_RESOURCE = TEST_MODELS_PACKAGE + ".models.NotOnClasspath";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void onSubpackageOfIndexedPackageShouldBeCovered() {
+        // GIVEN
+        ResourceIndex sut = new ResourceIndex();
+
+        // WHEN
+        sut.addPackage(REPOSITORY_PACKAGE);
+
+        // THEN
+        assertThat(sut.covers(REPOSITORY_PACKAGE)).isTrue();
+        assertThat(sut.covers(REPOSITORY_PACKAGE + ".sub")).isTrue();
+        assertThat(sut.covers(REPOSITORY_PACKAGE + "Sibling")).isFalse();
+        assertThat(sut.covers(TEST_MODELS_PACKAGE)).isFalse();
+    }
+
+    @Test
+    public void onIndexOfChildPackageShouldScanSiblingPackages() throws Exception {
+        // GIVEN
+        ResourceIndex childIndex = new ResourceIndex();
+        childIndex.addPackage(REPOSITORY_PACKAGE);
+        childIndex.addResourceRepository(TaskRepository.class.getName(), Task.class.getName());
+        ClassLoader classLoader = classLoaderWithIndex(childIndex);
+
+        // WHEN
+        ResourceIndex result = withContextClassLoader(classLoader, () -> ResourceIndex.get(TEST_MODELS_PACKAGE));
+
+        // THEN
+        assertThat(result.getResources()).contains(Task.class.getName());
+        assertThat(result.getResourceRepositories()).containsKey(TaskRepository.class.getName());
+    }
+
+    @Test
+    public void onWrittenScanShouldBeLoadedWithoutScanning() throws Exception {
+        // GIVEN
+        ResourceIndex scannedIndex = ResourceIndex.scan(TEST_MODELS_PACKAGE);
+        // a class which a scan cannot find proves that the written index has been used
+        scannedIndex.addResource(NOT_SCANNABLE_RESOURCE);
+        ClassLoader classLoader = classLoaderWithIndex(scannedIndex);
+
+        // WHEN
+        ResourceIndex result = withContextClassLoader(classLoader, () -> ResourceIndex.get(TEST_MODELS_PACKAGE));
+
+        // THEN
+        assertThat(scannedIndex.getPackages()).containsExactly(TEST_MODELS_PACKAGE);
+        assertThat(result.getResources()).contains(Task.class.getName(), NOT_SCANNABLE_RESOURCE);
+        assertThat(result.getResourceRepositories()).containsKey(TaskRepository.class.getName());
+    }
+
+    @Test
+    public void onRepeatedCallShouldReturnCachedIndex() throws Exception {
+        // GIVEN
+        File directory = temporaryFolder.newFolder();
+        ClassLoader classLoader = new URLClassLoader(new URL[]{directory.toURI().toURL()},
+            ResourceIndexTest.class.getClassLoader());
+        ResourceIndex firstResult = withContextClassLoader(classLoader, () -> ResourceIndex.get(TEST_MODELS_PACKAGE));
+        firstResult.addResource(NOT_SCANNABLE_RESOURCE);
+        // an index added afterwards would be used if the packages were looked up again
+        ResourceIndex laterIndex = new ResourceIndex();
+        laterIndex.addPackage(TEST_MODELS_PACKAGE);
+        laterIndex.addResource(NOT_SCANNABLE_RESOURCE);
+        writeIndex(directory, laterIndex);
+
+        // WHEN
+        ResourceIndex result = withContextClassLoader(classLoader, () -> ResourceIndex.get(TEST_MODELS_PACKAGE));
+
+        // THEN
+        assertThat(result).isNotSameAs(firstResult);
+        assertThat(result.getResources()).contains(Task.class.getName()).doesNotContain(NOT_SCANNABLE_RESOURCE);
+    }
+
+    private ClassLoader classLoaderWithIndex(ResourceIndex resourceIndex) throws Exception {
+        File directory = temporaryFolder.newFolder();
+        writeIndex(directory, resourceIndex);
+        return new URLClassLoader(new URL[]{directory.toURI().toURL()}, ResourceIndexTest.class.getClassLoader());
+    }
+
+    private static void writeIndex(File directory, ResourceIndex resourceIndex) throws Exception {
+        Path indexFile = directory.toPath().resolve(ResourceIndex.LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        try (Writer writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+            resourceIndex.write(writer);
+        }
+    }
+
+    private static <T> T withContextClassLoader(ClassLoader classLoader, Callable<T> callable) throws Exception {
+        ClassLoader previousClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            return callable.call();
+        } finally {
+            Thread.currentThread().setContextClassLoader(previousClassLoader);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.katharsis.repository.exception.RepositoryInstanceNotFoundException;
 import io.katharsis.resource.field.ResourceFieldNameTransformer;
 import io.katharsis.resource.information.ResourceInformationBuilder;
 import io.katharsis.resource.mock.models.*;
+import io.katharsis.resource.mock.repository.ProjectRepository;
 import io.katharsis.resource.mock.repository.ResourceWithoutRepositoryToProjectRepository;
 import io.katharsis.resource.mock.repository.TaskRepository;
 import io.katharsis.resource.mock.repository.TaskToProjectRepository;
@@ -15,7 +16,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.katharsis.resource.registry.ResourceRegistryTest.TEST_MODELS_URL;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -60,6 +64,25 @@ public class ResourceRegistryBuilderTest {
         Assert.assertEquals(TEST_MODELS_URL + "/projects", resourceRegistry.getResourceUrl(Project.class));
     }
 
+    @Test
+    public void onBuildShouldReportResourceTimes() {
+        // GIVEN
+        ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
+            resourceInformationBuilder);
+
+        // WHEN
+        sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+
+        // THEN
+        RegistryStartupReport report = sut.getStartupReport();
+        assertThat(report).isNotNull();
+        assertThat(report.getScanTime()).isPositive();
+        assertThat(report.getResourceIntrospectionTimes()).containsKeys(Task.class, Project.class);
+        assertThat(report.getResourceInstantiationTimes()).containsKeys(Task.class, Project.class);
+        assertThat(report.getSlowestResources(1)).hasSize(1);
+        assertThat(report.toString()).contains("resources");
+    }
+
     @Test
     public void onValidPackagesShouldBuildRegistry() {
         // GIVEN
@@ -95,6 +118,51 @@ public class ResourceRegistryBuilderTest {
         sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
     }
 
+    @Test
+    public void onLazyRepositoriesShouldCreateRepositoryOnFirstUse() {
+        // GIVEN
+        Set<Class<?>> createdRepositories = ConcurrentHashMap.newKeySet();
+        ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator() {
+            public <T> T getInstance(Class<T> clazz) {
+                createdRepositories.add(clazz);
+                return super.getInstance(clazz);
+            }
+        }, resourceInformationBuilder, true);
+        ResourceRegistry resourceRegistry = sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+        assertThat(createdRepositories).isEmpty();
+
+        // WHEN
+        Object taskRepository = resourceRegistry.getEntry(Task.class).getResourceRepository();
+        resourceRegistry.warmUp(Collections.singletonList(Project.class));
+
+        // THEN
+        assertThat(taskRepository).isExactlyInstanceOf(TaskRepository.class);
+        assertThat(resourceRegistry.getEntry(Task.class).getResourceRepository()).isSameAs(taskRepository);
+        assertThat(createdRepositories).contains(TaskRepository.class, ProjectRepository.class)
+            .doesNotContain(TaskToProjectRepository.class);
+    }
+
+    @Test
+    public void onLazyRepositoriesAndNoInstanceShouldThrowExceptionOnFirstUse() {
+        // GIVEN
+        ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator() {
+            public <T> T getInstance(Class<T> clazz) {
+                if (clazz == TaskRepository.class) {
+                    return null;
+                } else {
+                    return super.getInstance(clazz);
+                }
+            }
+        }, resourceInformationBuilder, true);
+        ResourceRegistry resourceRegistry = sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+
+        // THEN
+        expectedException.expect(RepositoryInstanceNotFoundException.class);
+
+        // WHEN
+        resourceRegistry.getEntry(Task.class).getResourceRepository();
+    }
+
     @Test
     public void onNoRelationshipRepositoryInstanceShouldThrowException() {
         // GIVEN
@@ -1,12 +1,20 @@
 package io.katharsis.resource.registry;
 
 import io.katharsis.resource.exception.init.ResourceNotFoundInitializationException;
+import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Project;
 import io.katharsis.resource.mock.models.Task;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.*;
 
 public class ResourceRegistryTest {
@@ -53,4 +61,63 @@ public class ResourceRegistryTest {
         expectedException.expect(ResourceNotFoundInitializationException.class);
         resourceRegisty.getEntry(Long.class);
     }
+
+    @Test
+    public void onReplacedEntryShouldReturnNewEntryByType() {
+        // GIVEN
+        resourceRegisty.addEntry(Task.class, new RegistryEntry<>(null, null, null));
+        RegistryEntry<Task> newEntry = new RegistryEntry<>(null, null, null);
+
+        // WHEN
+        resourceRegisty.addEntry(Task.class, newEntry);
+
+        // THEN
+        assertThat(resourceRegisty.getEntry("tasks")).isSameAs(newEntry);
+        assertThat(resourceRegisty.getEntry(Task.class)).isSameAs(newEntry);
+    }
+
+    @Test
+    public void onAddedTargetResourceShouldResolveRelationshipFields() {
+        // GIVEN
+        ResourceInformationBuilder resourceInformationBuilder = new ResourceInformationBuilder(
+            new ResourceFieldNameTransformer());
+        ResourceInformation taskInformation = resourceInformationBuilder.build(Task.class);
+        RegistryEntry<Project> projectEntry = new RegistryEntry<>(resourceInformationBuilder.build(Project.class),
+            null, null);
+        resourceRegisty.addEntry(Task.class, new RegistryEntry<>(taskInformation, null, null));
+
+        // WHEN
+        resourceRegisty.addEntry(Project.class, projectEntry);
+
+        // THEN
+        ResourceField projectField = taskInformation.findRelationshipFieldByName("project");
+        ResourceField projectsField = taskInformation.findRelationshipFieldByName("projects");
+        assertThat(resourceRegisty.getEntry(projectField)).isSameAs(projectEntry);
+        assertThat(projectField.isCollection()).isFalse();
+        assertThat(resourceRegisty.getEntry(projectsField)).isSameAs(projectEntry);
+        assertThat(projectsField.getTargetClass()).isEqualTo(Project.class);
+        assertThat(projectsField.isCollection()).isTrue();
+    }
+
+    @Test
+    public void onAddedEntriesShouldResolveRelationshipsBetweenThem() {
+        // GIVEN
+        ResourceInformationBuilder resourceInformationBuilder = new ResourceInformationBuilder(
+            new ResourceFieldNameTransformer());
+        ResourceInformation taskInformation = resourceInformationBuilder.build(Task.class);
+        RegistryEntry<Project> projectEntry = new RegistryEntry<>(resourceInformationBuilder.build(Project.class),
+            null, null);
+        Map<Class<?>, RegistryEntry> registryEntries = new HashMap<>();
+        registryEntries.put(Task.class, new RegistryEntry<>(taskInformation, null, null));
+        registryEntries.put(Project.class, projectEntry);
+
+        // WHEN
+        resourceRegisty.addEntries(registryEntries);
+
+        // THEN
+        assertThat(resourceRegisty.getEntry("tasks")).isSameAs(registryEntries.get(Task.class));
+        assertThat(resourceRegisty.getEntry("projects")).isSameAs(projectEntry);
+        assertThat(resourceRegisty.getEntry(taskInformation.findRelationshipFieldByName("project")))
+            .isSameAs(projectEntry);
+    }
 }
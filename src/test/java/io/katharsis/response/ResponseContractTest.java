@@ -1,6 +1,9 @@
 package io.katharsis.response;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.RequestParamsBuilder;
+import io.katharsis.resource.RestrictedQueryParamsMembers;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.RegistryEntry;
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -8,13 +11,15 @@ import nl.jqno.equalsverifier.Warning;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 
 public class ResponseContractTest {
 
     @Test
     public void ContainerEqualsContract() throws NoSuchFieldException {
         EqualsVerifier.forClass(Container.class)
-                .withPrefabValues(RequestParams.class, new RequestParams(null), new RequestParams(null))
+                .withPrefabValues(RequestParams.class, new RequestParams(null), new RequestParamsBuilder(new ObjectMapper())
+                    .buildRequestParams(Collections.singletonMap(RestrictedQueryParamsMembers.include.name(), "[\"tasks\"]")))
                 .usingGetClass()
                 .suppress(Warning.NONFINAL_FIELDS)
                 .verify();
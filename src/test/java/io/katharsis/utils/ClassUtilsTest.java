@@ -1,5 +1,6 @@
 package io.katharsis.utils;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
@@ -91,6 +92,54 @@ public class ClassUtilsTest {
         assertThat(result).hasSize(1);
     }
 
+    @Test
+    public void onSameClassShouldReturnSameModel() throws Exception {
+        // WHEN
+        ClassModel result = ClassUtils.getClassModel(ChildClass.class);
+
+        // THEN
+        assertThat(result).isSameAs(ClassUtils.getClassModel(ChildClass.class));
+        assertThat(result.getFields()).isEqualTo(ClassUtils.getClassFields(ChildClass.class));
+    }
+
+    @Test
+    public void onModifiedFieldListShouldNotChangeModel() throws Exception {
+        // GIVEN
+        List<Field> fields = ClassUtils.getClassFields(ChildClass.class);
+
+        // WHEN
+        fields.clear();
+
+        // THEN
+        assertThat(ClassUtils.getClassFields(ChildClass.class)).isNotEmpty();
+        assertThat(ClassUtils.getClassModel(ChildClass.class).getFields()).isNotEmpty();
+    }
+
+    @Test
+    public void onClassModelShouldPairFieldsWithAccessors() throws Exception {
+        // WHEN
+        ClassModel result = ClassUtils.getClassModel(ParentClass.class);
+
+        // THEN
+        Field parentField = result.findField("parentField");
+        assertThat(result.getFieldGetter(parentField)).isEqualTo(ParentClass.class.getMethod("getParentField"));
+        assertThat(result.getFieldSetter(parentField)).isNull();
+        assertThat(result.findGetter("value")).isNull();
+        assertThat(result.findGetter("primitiveBooleanProperty"))
+            .isEqualTo(ParentClass.class.getMethod("isPrimitiveBooleanProperty"));
+    }
+
+    @Test
+    public void onJsonPropertyShouldFindFieldByAnnotationValue() throws Exception {
+        // WHEN
+        ClassModel result = ClassUtils.getClassModel(JsonPropertyClass.class);
+
+        // THEN
+        assertThat(result.findField("renamed")).isEqualTo(JsonPropertyClass.class.getDeclaredField("field"));
+        assertThat(result.findFieldByName("renamed")).isNull();
+        assertThat(result.getPropertyNames()).contains("renamed", "field");
+    }
+
     public static class ParentClass {
 
         private String parentField;
@@ -145,4 +194,9 @@ public class ClassUtilsTest {
             return childField;
         }
     }
+
+    public static class JsonPropertyClass {
+        @JsonProperty("renamed")
+        private String field;
+    }
 }
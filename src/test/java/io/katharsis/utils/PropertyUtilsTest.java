@@ -252,6 +252,50 @@ public class PropertyUtilsTest {
         PropertyUtils.getProperty(bean, "nonExistingProperty");
     }
 
+    @Test
+    public void onSamePropertyShouldReturnSameAccessor() throws Exception {
+        // WHEN
+        PropertyAccessor first = PropertyUtils.getPropertyAccessor(Bean.class, "annotatedJacksonProperty");
+        PropertyAccessor second = PropertyUtils.getPropertyAccessor(Bean.class, "annotatedJacksonProperty");
+
+        // THEN
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    public void onAccessorShouldGetAndSetValue() throws Exception {
+        // GIVEN
+        Bean bean = new ChildBean();
+        PropertyAccessor sut = PropertyUtils.getPropertyAccessor(ChildBean.class, "privatePropertyWithMutators");
+
+        // WHEN
+        sut.set(bean, "value");
+
+        // THEN
+        assertThat(sut.get(bean)).isEqualTo("value");
+    }
+
+    @Test
+    public void onNonExistingPropertyAccessorShouldThrowException() throws Exception {
+        // THEN
+        expectedException.expect(RuntimeException.class);
+
+        // WHEN
+        PropertyUtils.getPropertyAccessor(Bean.class, "nonExistingProperty");
+    }
+
+    @Test
+    public void onGetterWithoutSetterShouldThrowExceptionOnSet() throws Exception {
+        // GIVEN
+        GetterTest bean = new GetterTest();
+
+        // THEN
+        expectedException.expect(RuntimeException.class);
+
+        // WHEN
+        PropertyUtils.setProperty(bean, "property", "value");
+    }
+
     public static class Bean {
         private String privatePropertyWithMutators;
         private boolean booleanPrimitivePropertyWithMutators;
@@ -0,0 +1,177 @@
+package io.katharsis.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskGroupTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void onNoBoundGroupShouldRunTasksOnCallingThread() {
+        // GIVEN
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        // WHEN
+        TaskGroup.current().runAll(Arrays.asList(
+            () -> threads.add(Thread.currentThread()),
+            () -> threads.add(Thread.currentThread())));
+
+        // THEN
+        assertThat(threads).containsExactly(caller, caller);
+    }
+
+    @Test
+    public void onBoundGroupShouldRunTasksConcurrently() throws Exception {
+        // GIVEN
+        CountDownLatch started = new CountDownLatch(3);
+        Runnable task = () -> {
+            started.countDown();
+            try {
+                assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        TaskGroup sut = new TaskGroup(executor, 3);
+
+        // WHEN
+        sut.call(() -> {
+            TaskGroup.current().runAll(Arrays.asList(task, task, task));
+            return null;
+        });
+
+        // THEN
+        assertThat(started.getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void onBoundGroupShouldNotExceedMaxConcurrency() throws Exception {
+        // GIVEN
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+        TaskGroup sut = new TaskGroup(executor, 2);
+
+        // WHEN
+        sut.call(() -> {
+            TaskGroup.current().runAll(tasks);
+            return null;
+        });
+
+        // THEN
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void onFailedTaskShouldCancelOtherTasksAndRethrow() throws Exception {
+        // GIVEN
+        CountDownLatch blockingTaskStarted = new CountDownLatch(1);
+        AtomicBoolean blockingTaskInterrupted = new AtomicBoolean();
+        AtomicBoolean skippedTaskRun = new AtomicBoolean();
+        Runnable blockingTask = () -> {
+            blockingTaskStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                blockingTaskInterrupted.set(true);
+            }
+        };
+        Runnable failingTask = () -> {
+            try {
+                blockingTaskStarted.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new ArithmeticException();
+        };
+        TaskGroup sut = new TaskGroup(executor, 2);
+
+        // WHEN
+        try {
+            sut.call(() -> {
+                TaskGroup.current().runAll(Arrays.asList(blockingTask, failingTask, () -> skippedTaskRun.set(true)));
+                return null;
+            });
+        } catch (ArithmeticException e) {
+            // THEN
+            assertThat(blockingTaskInterrupted.get()).isTrue();
+            assertThat(skippedTaskRun.get()).isFalse();
+            return;
+        }
+        throw new AssertionError("Exception has not been rethrown");
+    }
+
+    @Test
+    public void onBusyBoundedExecutorShouldRunTasksOnCallingThread() throws Exception {
+        // GIVEN
+        ExecutorService singleThreadExecutor = Executors.newFixedThreadPool(1);
+        AtomicInteger runTasks = new AtomicInteger();
+        TaskGroup sut = new TaskGroup(singleThreadExecutor, 2);
+
+        try {
+            // WHEN
+            Future<Object> result = singleThreadExecutor.submit(() -> sut.call(() -> {
+                TaskGroup.current().runAll(Arrays.asList(runTasks::incrementAndGet, runTasks::incrementAndGet));
+                return null;
+            }));
+
+            // THEN
+            result.get(10, TimeUnit.SECONDS);
+            assertThat(runTasks.get()).isEqualTo(2);
+        } finally {
+            singleThreadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void onNonPositiveMaxConcurrencyShouldThrowException() {
+        // THEN
+        expectedException.expect(IllegalArgumentException.class);
+
+        // WHEN
+        new TaskGroup(executor, 0);
+    }
+}